@@ -1,79 +1,23 @@
 import com.vanniktech.maven.publish.JavaLibrary
 import com.vanniktech.maven.publish.JavadocJar
 import com.vanniktech.maven.publish.SourcesJar
-import org.springframework.boot.gradle.tasks.bundling.BootJar
+import io.spring.gradle.dependencymanagement.dsl.DependencyManagementExtension
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
 
 plugins {
-  `java-library`
-  alias(libs.plugins.spring.boot)
-  alias(libs.plugins.spring.dependency.management)
+  alias(libs.plugins.spring.boot) apply false
+  alias(libs.plugins.spring.dependency.management) apply false
 
   // Code Quality
-  checkstyle
-  jacoco
   alias(libs.plugins.sonarqube)
 
   // Publishing
-  id("com.vanniktech.maven.publish") version "0.36.0"
+  id("com.vanniktech.maven.publish") version "0.36.0" apply false
 }
 
-group = "uk.nhs.tis.trainee"
-version = "0.0.1"
-
-dependencies {
-  implementation("org.springframework.security:spring-security-oauth2-resource-server")
-  implementation("org.springframework.security:spring-security-oauth2-jose")
-}
-
-checkstyle {
-  config =
-    resources.text.fromArchiveEntry(configurations.checkstyle.get().first(), "google_checks.xml")
-}
-
-java {
-  toolchain {
-    languageVersion.set(JavaLanguageVersion.of(17))
-    vendor.set(JvmVendorSpec.ADOPTIUM)
-  }
-}
-
-mavenPublishing {
-  configure(
-    JavaLibrary(
-      javadocJar = JavadocJar.Javadoc(),
-      sourcesJar = SourcesJar.Sources()
-    )
-  )
-  publishToMavenCentral(automaticRelease = true)
-  signAllPublications()
-
-  coordinates(artifactId = "security-feature")
-
-  pom {
-    name = "TIS Trainee Security Feature"
-    description =
-      "A security library for TIS Trainee services, to enforce feature flag-based access control."
-    url = "https://github.com/Health-Education-England"
-
-    developers {
-      developer {
-        name = "NHS England"
-      }
-    }
-
-    licenses {
-      license {
-        name = "MIT"
-        url = "https://opensource.org/license/mit"
-      }
-    }
-
-    scm {
-      url = "https://github.com/Health-Education-England/tis-trainee-security-feature"
-      connection.set("scm:git:git://github.com/Health-Education-England/tis-trainee-security-feature.git")
-      developerConnection.set("scm:git:ssh://git@github.com/Health-Education-England/tis-trainee-security-feature.git")
-    }
-  }
+allprojects {
+  group = "uk.nhs.tis.trainee"
+  version = "0.1.0"
 }
 
 sonarqube {
@@ -89,68 +33,136 @@ sonarqube {
   }
 }
 
-testing {
-  suites {
-    configureEach {
-      if (this is JvmTestSuite) {
-        useJUnitJupiter()
-        dependencies {
-          implementation(project())
+// Library modules, published as security-feature-<module>.
+configure(subprojects.filter { it.name != "workload" }) {
+  apply(plugin = "java-library")
+  apply(plugin = "io.spring.dependency-management")
+  apply(plugin = "checkstyle")
+  apply(plugin = "jacoco")
+  apply(plugin = "com.vanniktech.maven.publish")
+
+  configure<DependencyManagementExtension> {
+    imports {
+      mavenBom(SpringBootPlugin.BOM_COORDINATES)
+    }
+  }
+
+  configure<CheckstyleExtension> {
+    config = resources.text.fromArchiveEntry(
+      configurations.named("checkstyle").get().first(), "google_checks.xml"
+    )
+  }
+
+  configure<JavaPluginExtension> {
+    toolchain {
+      languageVersion.set(JavaLanguageVersion.of(17))
+      vendor.set(JvmVendorSpec.ADOPTIUM)
+    }
+  }
+
+  configure<TestingExtension> {
+    suites {
+      configureEach {
+        if (this is JvmTestSuite) {
+          useJUnitJupiter()
+          dependencies {
+            implementation(project())
+          }
         }
       }
     }
+  }
+
+  configure<com.vanniktech.maven.publish.MavenPublishBaseExtension> {
+    configure(
+      JavaLibrary(
+        javadocJar = JavadocJar.Javadoc(),
+        sourcesJar = SourcesJar.Sources()
+      )
+    )
+    publishToMavenCentral(automaticRelease = true)
+    signAllPublications()
+
+    coordinates(artifactId = "security-feature-${project.name}")
 
-    val test by getting(JvmTestSuite::class) {
-      dependencies {
-        implementation("org.hamcrest:hamcrest")
-        implementation("org.mockito:mockito-core")
+    pom {
+      name = "TIS Trainee Security Feature (${project.name})"
+      description =
+        "A security library for TIS Trainee services, to enforce feature flag-based access control."
+      url = "https://github.com/Health-Education-England"
+
+      developers {
+        developer {
+          name = "NHS England"
+        }
       }
-    }
 
-    register<JvmTestSuite>("integrationTest") {
-      dependencies {
-        implementation("org.springframework.boot:spring-boot-starter-test")
-        implementation("org.springframework.boot:spring-boot-starter-web")
-        implementation("org.springframework.security:spring-security-config")
-        implementation("org.springframework.security:spring-security-test")
+      licenses {
+        license {
+          name = "MIT"
+          url = "https://opensource.org/license/mit"
+        }
       }
 
-      // Include implementation dependencies.
-      val integrationTestImplementation by configurations.getting {
-        extendsFrom(configurations.implementation.get())
+      scm {
+        url = "https://github.com/Health-Education-England/tis-trainee-security-feature"
+        connection.set("scm:git:git://github.com/Health-Education-England/tis-trainee-security-feature.git")
+        developerConnection.set("scm:git:ssh://git@github.com/Health-Education-England/tis-trainee-security-feature.git")
       }
     }
   }
-}
 
-publishing {
-  publications.withType<MavenPublication>().configureEach {
-    versionMapping {
-      usage("java-api") {
-        fromResolutionOf("runtimeClasspath")
-      }
-      usage("java-runtime") {
-        fromResolutionResult()
+  configure<PublishingExtension> {
+    publications.withType<MavenPublication>().configureEach {
+      versionMapping {
+        usage("java-api") {
+          fromResolutionOf("runtimeClasspath")
+        }
+        usage("java-runtime") {
+          fromResolutionResult()
+        }
       }
     }
   }
-}
 
-tasks.named<BootJar>("bootJar") {
-  enabled = false
-}
+  val runtimeClasspath = configurations.named("runtimeClasspath")
+  val jar = tasks.named<Jar>("jar")
 
-tasks.named("check") {
-  dependsOn(testing.suites.named("integrationTest"))
-}
+  tasks.register("runtimeFootprint") {
+    description = "Reports the jars and size a consumer of this module adds to its classpath."
+    group = "help"
+    inputs.files(runtimeClasspath)
+    inputs.files(jar)
 
-tasks.jacocoTestReport {
-  reports {
-    html.required.set(true)
-    xml.required.set(true)
+    doLast {
+      val files = jar.get().outputs.files.files + runtimeClasspath.get().files
+      val kib = files.sumOf { it.length() } / 1024
+      println("${project.path}: ${files.size} jars, $kib KiB")
+      files.sortedBy { it.name }.forEach { println("  ${it.name}") }
+    }
+  }
+
+  tasks.named<JacocoReport>("jacocoTestReport") {
+    reports {
+      html.required.set(true)
+      xml.required.set(true)
+    }
+  }
+
+  tasks.named<Test>("test") {
+    finalizedBy(tasks.named("jacocoTestReport"))
   }
 }
 
-tasks.test {
-  finalizedBy(tasks.jacocoTestReport)
+// Modules providing a startup application, comparing a core-only consumer with the full library.
+configure(subprojects.filter { it.name in setOf("core", "servlet") }) {
+  val sourceSets = extensions.getByType<SourceSetContainer>()
+
+  tasks.register<JavaExec>("startupTime") {
+    description = "Reports the startup time and footprint of an application using this module."
+    group = "help"
+    classpath = sourceSets["startup"].runtimeClasspath
+    mainClass = "uk.nhs.tis.trainee.security.feature.startup.StartupApplication"
+    args = listOf(project.path)
+  }
 }
@@ -0,0 +1,26 @@
+// The evaluation model only, with no Spring dependencies.
+plugins {
+  `java-test-fixtures`
+}
+
+testing {
+  suites {
+    val test by getting(JvmTestSuite::class) {
+      dependencies {
+        implementation("org.hamcrest:hamcrest")
+      }
+    }
+
+    // A Spring MVC application using only this module, to compare with the servlet module's.
+    register<JvmTestSuite>("startup") {
+      dependencies {
+        implementation("org.springframework.boot:spring-boot-starter-web")
+      }
+
+      // Include implementation dependencies.
+      val startupImplementation by configurations.getting {
+        extendsFrom(configurations.implementation.get())
+      }
+    }
+  }
+}
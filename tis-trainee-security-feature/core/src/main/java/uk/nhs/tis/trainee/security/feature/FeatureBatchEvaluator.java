@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/**
+ * Component that evaluates a set of features for many users at once, such as for batch reporting
+ * or notification jobs.
+ *
+ * <p>The feature paths are compiled once and users are evaluated in parallel using a
+ * {@link ForkJoinPool}, the results are returned as a compact {@link FeatureMatrix}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * FeatureMatrix matrix = evaluator.evaluate(featureClaims, List.of("notifications.email"));
+ * BitSet emailEnabled = matrix.getEnabledRows("notifications.email");
+ * </pre>
+ */
+public class FeatureBatchEvaluator {
+
+  private static final int DEFAULT_BATCH_SIZE = 1024;
+
+  private final ForkJoinPool pool;
+  private final int batchSize;
+
+  /**
+   * Create a batch evaluator using the common fork-join pool.
+   */
+  public FeatureBatchEvaluator() {
+    this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Create a batch evaluator using the given fork-join pool.
+   *
+   * @param pool      The pool to evaluate users in.
+   * @param batchSize The number of users evaluated by each task, below which work is not split.
+   *                  Tasks always cover whole 64 user words of the matrix, so smaller batch sizes
+   *                  behave as 64.
+   */
+  public FeatureBatchEvaluator(ForkJoinPool pool, int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("The batch size must be at least one.");
+    }
+    this.pool = pool;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Evaluate the given features for each features claim.
+   *
+   * @param featureClaims The features claims to evaluate, one row per claim, null claims are
+   *                      treated as having no features.
+   * @param featurePaths  The dot-delimited feature paths to evaluate, one column per path.
+   * @return The matrix of results.
+   */
+  public FeatureMatrix evaluate(Collection<? extends Map<String, Object>> featureClaims,
+      Collection<String> featurePaths) {
+    return evaluateClaims(new ArrayList<>(featureClaims), featurePaths);
+  }
+
+  /**
+   * Evaluate the given features for each features claim.
+   *
+   * @param featureClaims The features claims to evaluate, one row per claim in encounter order,
+   *                      null claims are treated as having no features.
+   * @param featurePaths  The dot-delimited feature paths to evaluate, one column per path.
+   * @return The matrix of results.
+   */
+  public FeatureMatrix evaluate(Stream<? extends Map<String, Object>> featureClaims,
+      Collection<String> featurePaths) {
+    List<Map<String, Object>> claims = new ArrayList<>();
+    featureClaims.forEachOrdered(claims::add);
+    return evaluateClaims(claims, featurePaths);
+  }
+
+  /**
+   * Evaluate the given features for each features claim.
+   *
+   * @param featureClaims The random access list of features claims to evaluate.
+   * @param featurePaths  The dot-delimited feature paths to evaluate.
+   * @return The matrix of results.
+   */
+  private FeatureMatrix evaluateClaims(List<Map<String, Object>> featureClaims,
+      Collection<String> featurePaths) {
+    List<String> paths = List.copyOf(featurePaths);
+    FeaturePath[] compiledPaths = paths.stream()
+        .map(FeaturePath::compile)
+        .toArray(FeaturePath[]::new);
+
+    FeatureMatrix matrix = new FeatureMatrix(paths, featureClaims.size());
+    pool.invoke(new EvaluationTask(featureClaims, compiledPaths, matrix, batchSize, 0,
+        featureClaims.size()));
+    return matrix;
+  }
+
+  /**
+   * A task to evaluate a range of rows, splitting in half until the batch size is reached.
+   *
+   * <p>Ranges are split on 64 row boundaries, so no two tasks write to the same word of a matrix
+   * column.</p>
+   */
+  @SuppressWarnings("serial") // Tasks are never serialized.
+  private static class EvaluationTask extends RecursiveAction {
+
+    private final List<Map<String, Object>> featureClaims;
+    private final FeaturePath[] paths;
+    private final FeatureMatrix matrix;
+    private final int batchSize;
+    private final int from;
+    private final int to;
+
+    /**
+     * Create a task to evaluate a range of rows.
+     *
+     * @param featureClaims The features claims for each row.
+     * @param paths         The compiled feature paths for each column.
+     * @param matrix        The matrix to populate.
+     * @param batchSize     The number of rows below which work is not split.
+     * @param from          The first row to evaluate, inclusive, a multiple of 64.
+     * @param to            The last row to evaluate, exclusive.
+     */
+    EvaluationTask(List<Map<String, Object>> featureClaims, FeaturePath[] paths,
+        FeatureMatrix matrix, int batchSize, int from, int to) {
+      this.featureClaims = featureClaims;
+      this.paths = paths;
+      this.matrix = matrix;
+      this.batchSize = batchSize;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      int middle = ((from + to) >>> 1) & -Long.SIZE;
+
+      if (to - from > batchSize && middle > from) {
+        invokeAll(new EvaluationTask(featureClaims, paths, matrix, batchSize, from, middle),
+            new EvaluationTask(featureClaims, paths, matrix, batchSize, middle, to));
+        return;
+      }
+
+      for (int row = from; row < to; row++) {
+        Map<String, Object> features = featureClaims.get(row);
+
+        if (features == null) {
+          continue;
+        }
+
+        for (int column = 0; column < paths.length; column++) {
+          if (paths[column].isEnabled(features)) {
+            matrix.setEnabled(row, column);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,281 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Component that canonicalizes JWT feature claims, so that structurally identical feature trees
+ * share a single immutable instance.
+ *
+ * <p>Most users have one of a small number of distinct feature configurations, canonicalizing the
+ * claim before retaining it means memory use grows with the number of distinct configurations
+ * rather than the number of active tokens. Feature names are interned and identical subtrees are
+ * shared between different configurations.</p>
+ *
+ * <p>Canonical trees, and source maps that have already been canonicalized, are recognised by
+ * identity and returned without copying. Source maps must therefore not be modified once
+ * canonicalized, which holds for decoded JWT claims.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * Map&lt;String, Object&gt; features = canonicalizer.canonicalize(jwt.getClaim("features"));
+ * </pre>
+ */
+public class FeatureCanonicalizer {
+
+  private static final int DEFAULT_MAX_ENTRIES = 4096;
+
+  private final ConcurrentMap<Map<String, Object>, Map<String, Object>> trees =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, String> names = new ConcurrentHashMap<>();
+  private final ConcurrentMap<SourceKey, Map<String, Object>> seen = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+  private final int maxEntries;
+
+  /**
+   * Create a feature canonicalizer with the default cache size.
+   */
+  public FeatureCanonicalizer() {
+    this(DEFAULT_MAX_ENTRIES);
+  }
+
+  /**
+   * Create a feature canonicalizer with the given cache size.
+   *
+   * @param maxEntries The maximum number of distinct feature trees, names and source maps to
+   *                   retain, once reached further trees are still canonicalized but no longer
+   *                   shared.
+   */
+  public FeatureCanonicalizer(int maxEntries) {
+    if (maxEntries < 0) {
+      throw new IllegalArgumentException("The maximum number of entries must not be negative.");
+    }
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Get the canonical instance of the given feature tree.
+   *
+   * @param features The map of features from the JWT claims.
+   * @return An immutable feature tree equal to the given features, or null if no features given.
+   */
+  public Map<String, Object> canonicalize(Map<String, Object> features) {
+    if (features == null) {
+      return null;
+    }
+
+    expungeCollected();
+    Map<String, Object> canonical = seen.get(new SourceKey(features, null));
+    if (canonical != null) {
+      return canonical;
+    }
+
+    canonical = canonicalizeMap(features);
+
+    if (seen.size() < maxEntries) {
+      seen.putIfAbsent(new SourceKey(features, collected), canonical);
+
+      // Recognise shared trees passed back in, they are retained by the tree pool anyway.
+      if (canonical != features && trees.get(canonical) == canonical) {
+        seen.putIfAbsent(new SourceKey(canonical, collected), canonical);
+      }
+    }
+
+    return canonical;
+  }
+
+  /**
+   * Get a view of the canonical instance of the given feature tree.
+   *
+   * @param features The map of features from the JWT claims.
+   * @return A view of the canonical features, or an empty view if no features given.
+   */
+  public FeatureView canonicalizeView(Map<String, Object> features) {
+    return features == null ? FeatureView.EMPTY : FeatureView.wrap(canonicalize(features));
+  }
+
+  /**
+   * Get the number of distinct feature trees, including subtrees, currently shared.
+   *
+   * @return The number of shared feature trees.
+   */
+  public int size() {
+    return trees.size();
+  }
+
+  /**
+   * Remove all shared feature trees and names.
+   */
+  public void clear() {
+    trees.clear();
+    names.clear();
+    seen.clear();
+  }
+
+  /**
+   * Canonicalize a feature map, including all nested values.
+   *
+   * @param features The feature map to canonicalize.
+   * @return The canonical immutable copy of the feature map.
+   */
+  private Map<String, Object> canonicalizeMap(Map<?, ?> features) {
+    Map<String, Object> copy = new HashMap<>(features.size());
+
+    for (Map.Entry<?, ?> entry : features.entrySet()) {
+      Object value = canonicalizeValue(entry.getValue());
+
+      // Immutable maps do not permit null values, which are equivalent to an absent feature.
+      if (value != null) {
+        copy.put(intern(String.valueOf(entry.getKey())), value);
+      }
+    }
+
+    return intern(Map.copyOf(copy));
+  }
+
+  /**
+   * Canonicalize a single value from a feature map.
+   *
+   * @param value The value to canonicalize.
+   * @return The canonical value, which will be immutable for maps and lists.
+   */
+  private Object canonicalizeValue(Object value) {
+    if (value instanceof Map<?, ?> map) {
+      return canonicalizeMap(map);
+    }
+
+    if (value instanceof List<?> list) {
+      List<Object> copy = new ArrayList<>(list.size());
+
+      for (Object element : list) {
+        Object canonical = canonicalizeValue(element);
+
+        if (canonical != null) {
+          copy.add(canonical);
+        }
+      }
+
+      return List.copyOf(copy);
+    }
+
+    return value;
+  }
+
+  /**
+   * Get the shared instance of the given feature tree, if the cache is not full.
+   *
+   * @param tree The immutable feature tree.
+   * @return The shared feature tree, or the given tree if the cache is full.
+   */
+  private Map<String, Object> intern(Map<String, Object> tree) {
+    Map<String, Object> existing = trees.get(tree);
+    if (existing != null) {
+      return existing;
+    }
+
+    if (trees.size() >= maxEntries) {
+      return tree;
+    }
+
+    existing = trees.putIfAbsent(tree, tree);
+    return existing == null ? tree : existing;
+  }
+
+  /**
+   * Get the shared instance of the given name, if the cache is not full.
+   *
+   * @param name The name to intern.
+   * @return The shared name, or the given name if the cache is full.
+   */
+  private String intern(String name) {
+    String existing = names.get(name);
+    if (existing != null) {
+      return existing;
+    }
+
+    if (names.size() >= maxEntries) {
+      return name;
+    }
+
+    existing = names.putIfAbsent(name, name);
+    return existing == null ? name : existing;
+  }
+
+  /**
+   * Remove source maps that have been garbage collected.
+   */
+  private void expungeCollected() {
+    Reference<?> reference;
+    while ((reference = collected.poll()) != null) {
+      seen.remove(reference);
+    }
+  }
+
+  /**
+   * A weak, identity based key for source maps which have already been canonicalized.
+   */
+  private static final class SourceKey extends WeakReference<Object> {
+
+    private final int hash;
+
+    /**
+     * Create a key for the given source map.
+     *
+     * @param source The source map.
+     * @param queue  The queue to register the key with, or null for lookup only keys.
+     */
+    SourceKey(Object source, ReferenceQueue<Object> queue) {
+      super(source, queue);
+      hash = System.identityHashCode(source);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      if (obj instanceof SourceKey other) {
+        Object source = get();
+        return source != null && source == other.get();
+      }
+
+      return false;
+    }
+  }
+}
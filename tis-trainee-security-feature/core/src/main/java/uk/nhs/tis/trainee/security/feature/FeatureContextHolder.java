@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+/**
+ * Holder of the {@link FeatureView} installed for the current thread.
+ *
+ * <p>A view is only installed for the duration of a task decorated by the
+ * {@code FeatureContextTaskDecorator}, the holder does not inherit views into new threads.</p>
+ */
+public final class FeatureContextHolder {
+
+  private static final ThreadLocal<FeatureView> VIEW = new ThreadLocal<>();
+
+  private FeatureContextHolder() {
+  }
+
+  /**
+   * Get the feature view installed for the current thread.
+   *
+   * @return The installed view, or null if no view installed.
+   */
+  public static FeatureView getView() {
+    return VIEW.get();
+  }
+
+  /**
+   * Install a feature view for the current thread.
+   *
+   * @param view The view to install, or null to clear the current view.
+   */
+  public static void setView(FeatureView view) {
+    if (view == null) {
+      VIEW.remove();
+    } else {
+      VIEW.set(view);
+    }
+  }
+
+  /**
+   * Clear the feature view installed for the current thread.
+   */
+  public static void clearView() {
+    VIEW.remove();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for a single feature evaluation by {@link FeatureEvaluator}.
+ *
+ * <p>Only evaluations exceeding the threshold are recorded by default, the threshold can be
+ * overridden using the event name in a recording's settings.</p>
+ */
+@Name(FeatureEvaluationEvent.NAME)
+@Label("Feature Evaluation")
+@Category({"TIS Trainee", "Security Feature"})
+@Description("Evaluation of a feature path against the authenticated user's features claim.")
+@StackTrace(false)
+@Threshold("1 ms")
+final class FeatureEvaluationEvent extends Event {
+
+  static final String NAME = "uk.nhs.tis.trainee.security.feature.FeatureEvaluation";
+
+  @Label("Feature Path")
+  @Description("The dot-delimited path to the feature.")
+  String featurePath;
+
+  @Label("Depth")
+  @Description("The number of path segments found and not disabled.")
+  int depth;
+
+  @Label("Enabled")
+  @Description("Whether the feature was enabled.")
+  boolean enabled;
+
+  @Label("Cache Hit")
+  @Description("Whether the features came from an already resolved feature view.")
+  boolean cacheHit;
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.Map;
+
+/**
+ * Evaluates feature paths against a features claim map, without any framework dependency.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * boolean allowed = FeatureEvaluator.hasFeature(features, "parentFeature.childFeature");
+ * </pre>
+ */
+public final class FeatureEvaluator {
+
+  private FeatureEvaluator() {
+  }
+
+  /**
+   * Determines whether the given feature is enabled in the supplied features map.
+   *
+   * <p>Slow evaluations are recorded as {@code FeatureEvaluation} JDK Flight Recorder events.</p>
+   *
+   * @param features    The map of features from the JWT claims, may be null.
+   * @param featurePath Dot-delimited path to the feature in the JWT claims e.g.
+   *                    "parentFeature.childFeature".
+   * @return true if the feature is enabled, or false if not found or disabled.
+   */
+  public static boolean hasFeature(Map<String, Object> features, String featurePath) {
+    return checkFeature(features, featurePath, false);
+  }
+
+  /**
+   * Check whether the given feature is enabled in the supplied features map.
+   *
+   * @param features    The map of features, may be null.
+   * @param featurePath The dot-delimited path to the feature.
+   * @param cacheHit    Whether the features came from an already resolved view.
+   * @return true if the feature is enabled, or false if not found or disabled.
+   */
+  static boolean checkFeature(Map<String, Object> features, String featurePath,
+      boolean cacheHit) {
+    FeatureEvaluationEvent event = new FeatureEvaluationEvent();
+    event.begin();
+
+    boolean enabled = false;
+    int depth = 0;
+
+    if (features != null) {
+      FeaturePath path = FeaturePath.compile(featurePath);
+      depth = path.walk(features);
+      enabled = depth == path.depth();
+    }
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.featurePath = featurePath;
+      event.depth = depth;
+      event.enabled = enabled;
+      event.cacheHit = cacheHit;
+      event.commit();
+    }
+
+    return enabled;
+  }
+}
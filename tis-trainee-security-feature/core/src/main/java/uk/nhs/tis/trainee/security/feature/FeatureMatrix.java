@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An immutable matrix of feature evaluation results, with a row per user and a column per feature
+ * path.
+ *
+ * <p>Results are stored by column, as one bit per user and feature. Rows are packed 64 to a word, so
+ * concurrent writers must populate ranges of rows aligned to 64 rows.</p>
+ */
+public final class FeatureMatrix {
+
+  private final List<String> paths;
+  private final int rows;
+  private final long[][] columns;
+
+  /**
+   * Create an empty feature matrix, to be populated by {@link FeatureBatchEvaluator}.
+   *
+   * @param paths The feature paths for each column.
+   * @param rows  The number of rows.
+   */
+  FeatureMatrix(List<String> paths, int rows) {
+    this.paths = List.copyOf(paths);
+    this.rows = rows;
+    this.columns = new long[this.paths.size()][(rows + Long.SIZE - 1) / Long.SIZE];
+  }
+
+  /**
+   * Mark the feature as enabled, each aligned range of 64 rows must only be populated by a single
+   * thread.
+   *
+   * @param row    The row index.
+   * @param column The column index.
+   */
+  void setEnabled(int row, int column) {
+    columns[column][row >>> 6] |= 1L << row;
+  }
+
+  /**
+   * Get the feature paths for each column.
+   *
+   * @return The feature paths, in column order.
+   */
+  public List<String> getPaths() {
+    return paths;
+  }
+
+  /**
+   * Get the number of rows, one per evaluated user.
+   *
+   * @return The number of rows.
+   */
+  public int getRowCount() {
+    return rows;
+  }
+
+  /**
+   * Check whether a feature was enabled for a user.
+   *
+   * @param row    The row index, matching the order the users were supplied in.
+   * @param column The column index, matching the order the feature paths were supplied in.
+   * @return true if the feature is enabled, or false if not found or disabled.
+   */
+  public boolean isEnabled(int row, int column) {
+    if (row < 0 || row >= rows) {
+      throw new IndexOutOfBoundsException("Row " + row + " out of bounds for " + rows + " rows.");
+    }
+
+    if (column < 0 || column >= paths.size()) {
+      throw new IndexOutOfBoundsException(
+          "Column " + column + " out of bounds for " + paths.size() + " columns.");
+    }
+
+    return (columns[column][row >>> 6] & (1L << row)) != 0;
+  }
+
+  /**
+   * Check whether a feature was enabled for a user.
+   *
+   * @param row         The row index, matching the order the users were supplied in.
+   * @param featurePath The dot-delimited feature path.
+   * @return true if the feature is enabled, or false if not found or disabled.
+   */
+  public boolean isEnabled(int row, String featurePath) {
+    return isEnabled(row, getColumn(featurePath));
+  }
+
+  /**
+   * Get the rows for which a feature was enabled.
+   *
+   * @param featurePath The dot-delimited feature path.
+   * @return The set of row indexes with the feature enabled.
+   */
+  public BitSet getEnabledRows(String featurePath) {
+    return BitSet.valueOf(columns[getColumn(featurePath)]);
+  }
+
+  /**
+   * Get the column index for a feature path.
+   *
+   * @param featurePath The dot-delimited feature path.
+   * @return The column index.
+   */
+  private int getColumn(String featurePath) {
+    int column = paths.indexOf(featurePath);
+
+    if (column == -1) {
+      throw new IllegalArgumentException("Feature path was not evaluated: " + featurePath);
+    }
+
+    return column;
+  }
+}
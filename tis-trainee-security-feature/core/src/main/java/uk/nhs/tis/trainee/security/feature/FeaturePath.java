@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.Map;
+
+/**
+ * A compiled dot-delimited feature path, which can be evaluated against many feature maps without
+ * being parsed again.
+ *
+ * <p>A feature is enabled when every segment of the path is present as a nested map and none of
+ * those maps have an "enabled" flag of false.</p>
+ */
+public final class FeaturePath {
+
+  private final String path;
+  private final String[] segments;
+
+  /**
+   * Create a compiled feature path.
+   *
+   * @param path     The dot-delimited feature path.
+   * @param segments The segments of the feature path.
+   */
+  private FeaturePath(String path, String[] segments) {
+    this.path = path;
+    this.segments = segments;
+  }
+
+  /**
+   * Compile a feature path.
+   *
+   * @param featurePath Dot-delimited path to the feature in the JWT claims e.g.
+   *                    "parentFeature.childFeature".
+   * @return The compiled feature path.
+   */
+  public static FeaturePath compile(String featurePath) {
+    return new FeaturePath(featurePath, featurePath.split("\\."));
+  }
+
+  /**
+   * Get the dot-delimited feature path.
+   *
+   * @return The feature path.
+   */
+  public String path() {
+    return path;
+  }
+
+  /**
+   * Get the number of segments in the feature path.
+   *
+   * @return The feature path depth.
+   */
+  public int depth() {
+    return segments.length;
+  }
+
+  /**
+   * Check whether the feature is enabled in the supplied features map.
+   *
+   * @param features The map of features from the JWT claims.
+   * @return true if the feature is enabled, or false if not found or disabled.
+   */
+  public boolean isEnabled(Map<String, Object> features) {
+    return walk(features) == segments.length;
+  }
+
+  /**
+   * Check how much of the feature path is enabled in the supplied features map.
+   *
+   * @param features The map of features from the JWT claims.
+   * @return The number of path segments found and not disabled, the feature is only enabled when
+   *     this matches the depth of the path.
+   */
+  public int walk(Map<String, Object> features) {
+    Map<String, Object> current = features;
+
+    for (int depth = 0; depth < segments.length; depth++) {
+      Object value = current.get(segments[depth]);
+
+      if (!(value instanceof Map)) {
+        return depth;
+      }
+
+      Map<String, Object> featureMap = (Map<String, Object>) value;
+
+      if (featureMap.get("enabled") instanceof Boolean enabled && !enabled) {
+        return depth;
+      }
+
+      current = featureMap;
+    }
+
+    return segments.length;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.Map;
+
+/**
+ * An immutable view of a user's resolved features, which can be shared between threads.
+ *
+ * <p>A view is resolved once, such as by {@code FeatureChecker.resolveFeatures}, and can then be
+ * installed in child tasks using the {@link FeatureContextHolder}, so that fanned-out work can check
+ * features without the security context.</p>
+ */
+public final class FeatureView {
+
+  /**
+   * A view with no features enabled.
+   */
+  public static final FeatureView EMPTY = new FeatureView(Map.of());
+
+  // Copies without sharing, as callers of of() have not opted in to retaining shared trees.
+  private static final FeatureCanonicalizer COPIER = new FeatureCanonicalizer(0);
+
+  private final Map<String, Object> features;
+
+  /**
+   * Create a view of the given features.
+   *
+   * @param features The immutable map of features.
+   */
+  private FeatureView(Map<String, Object> features) {
+    this.features = features;
+  }
+
+  /**
+   * Create a view of an immutable copy of the given features.
+   *
+   * <p>Use {@link FeatureCanonicalizer#canonicalizeView(Map)} to create views sharing a single
+   * copy of identical features.</p>
+   *
+   * @param features The map of features, null values are treated as absent.
+   * @return The created view, or an empty view if no features given.
+   */
+  public static FeatureView of(Map<String, Object> features) {
+    return features == null ? EMPTY : new FeatureView(COPIER.canonicalize(features));
+  }
+
+  /**
+   * Create a view of the given features without copying them.
+   *
+   * @param features The immutable map of features.
+   * @return The created view.
+   */
+  static FeatureView wrap(Map<String, Object> features) {
+    return new FeatureView(features);
+  }
+
+  /**
+   * Get the immutable map of features.
+   *
+   * @return The features map.
+   */
+  public Map<String, Object> getFeatures() {
+    return features;
+  }
+
+  /**
+   * Determines whether the given feature is enabled in this view.
+   *
+   * <p>Slow evaluations are recorded as {@code FeatureEvaluation} JDK Flight Recorder events,
+   * marked as a cache hit.</p>
+   *
+   * @param featurePath Dot-delimited path to the feature e.g. "parentFeature.childFeature".
+   * @return true if the feature is enabled, or false if not found or disabled.
+   */
+  public boolean hasFeature(String featurePath) {
+    return FeatureEvaluator.checkFeature(features, featurePath, true);
+  }
+
+}
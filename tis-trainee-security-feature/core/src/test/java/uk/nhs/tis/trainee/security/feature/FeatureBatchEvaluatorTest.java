@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FeatureBatchEvaluatorTest {
+
+  private static final String PARENT_FEATURE = "feature1";
+  private static final String CHILD_FEATURE = "feature2";
+  private static final String NESTED_FEATURE = PARENT_FEATURE + "." + CHILD_FEATURE;
+
+  private static final String ENABLED = "enabled";
+
+  private ForkJoinPool pool;
+  private FeatureBatchEvaluator evaluator;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(4);
+    evaluator = new FeatureBatchEvaluator(pool, 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  void shouldThrowExceptionWhenBatchSizeLessThanOne() {
+    assertThrows(IllegalArgumentException.class, () -> new FeatureBatchEvaluator(pool, 0));
+  }
+
+  @Test
+  void shouldReturnEmptyMatrixWhenNoClaims() {
+    FeatureMatrix matrix = evaluator.evaluate(List.of(), List.of(PARENT_FEATURE));
+
+    assertThat("Unexpected row count.", matrix.getRowCount(), is(0));
+    assertThat("Unexpected paths.", matrix.getPaths(), is(List.of(PARENT_FEATURE)));
+  }
+
+  @Test
+  void shouldReturnFalseWhenClaimNull() {
+    List<Map<String, Object>> claims = new ArrayList<>();
+    claims.add(null);
+
+    FeatureMatrix matrix = evaluator.evaluate(claims, List.of(PARENT_FEATURE));
+
+    assertThat("Unexpected row count.", matrix.getRowCount(), is(1));
+    assertThat("Unexpected result.", matrix.isEnabled(0, PARENT_FEATURE), is(false));
+  }
+
+  @Test
+  void shouldEvaluateEachClaimAndPath() {
+    List<Map<String, Object>> claims = List.of(
+        TestFeatures.create(true, true),
+        TestFeatures.create(true, false),
+        TestFeatures.create(false, true),
+        Map.of()
+    );
+
+    FeatureMatrix matrix = evaluator.evaluate(claims, List.of(PARENT_FEATURE, NESTED_FEATURE));
+
+    assertThat("Unexpected row count.", matrix.getRowCount(), is(4));
+    assertThat("Unexpected result.", matrix.isEnabled(0, PARENT_FEATURE), is(true));
+    assertThat("Unexpected result.", matrix.isEnabled(0, NESTED_FEATURE), is(true));
+    assertThat("Unexpected result.", matrix.isEnabled(1, PARENT_FEATURE), is(true));
+    assertThat("Unexpected result.", matrix.isEnabled(1, NESTED_FEATURE), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(2, PARENT_FEATURE), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(2, NESTED_FEATURE), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(3, PARENT_FEATURE), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(3, NESTED_FEATURE), is(false));
+  }
+
+  @Test
+  void shouldEvaluateClaimStreamInEncounterOrder() {
+    Stream<Map<String, Object>> claims = Stream.of(
+        TestFeatures.create(false, false),
+        TestFeatures.create(true, false)
+    ).parallel();
+
+    FeatureMatrix matrix = evaluator.evaluate(claims, List.of(PARENT_FEATURE));
+
+    BitSet expected = new BitSet();
+    expected.set(1);
+    assertThat("Unexpected enabled rows.", matrix.getEnabledRows(PARENT_FEATURE), is(expected));
+  }
+
+  @Test
+  void shouldEvaluateManyClaimsAndPathsAcrossTasks() {
+    String[] paths = new String[70];
+    Map<String, Object>[] features = new Map[paths.length];
+
+    for (int i = 0; i < paths.length; i++) {
+      paths[i] = "feature" + i;
+      features[i] = Map.of(paths[i], Map.of(ENABLED, true));
+    }
+
+    List<Map<String, Object>> claims = new ArrayList<>();
+    for (int row = 0; row < 1000; row++) {
+      claims.add(features[row % paths.length]);
+    }
+
+    FeatureMatrix matrix = evaluator.evaluate(claims, Arrays.asList(paths));
+
+    for (int row = 0; row < claims.size(); row++) {
+      for (int column = 0; column < paths.length; column++) {
+        assertThat("Unexpected result.", matrix.isEnabled(row, column),
+            is(column == row % paths.length));
+      }
+    }
+  }
+}
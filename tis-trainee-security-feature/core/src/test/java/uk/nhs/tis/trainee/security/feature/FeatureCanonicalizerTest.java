@@ -0,0 +1,241 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FeatureCanonicalizerTest {
+
+  private static final String PARENT_FEATURE = "feature1";
+  private static final String CHILD_FEATURE = "feature2";
+
+  private static final String ENABLED = "enabled";
+
+  private FeatureCanonicalizer canonicalizer;
+
+  @BeforeEach
+  void setUp() {
+    canonicalizer = new FeatureCanonicalizer();
+  }
+
+  @Test
+  void shouldReturnNullWhenNoFeatures() {
+    Map<String, Object> canonical = canonicalizer.canonicalize(null);
+
+    assertThat("Unexpected canonical features.", canonical, nullValue());
+  }
+
+  @Test
+  void shouldReturnEqualFeatures() {
+    Map<String, Object> features = TestFeatures.create(true, false);
+
+    Map<String, Object> canonical = canonicalizer.canonicalize(features);
+
+    assertThat("Unexpected canonical features.", canonical, is(features));
+  }
+
+  @Test
+  void shouldReturnImmutableFeatures() {
+    Map<String, Object> canonical = canonicalizer.canonicalize(TestFeatures.create(true, true));
+
+    assertThrows(UnsupportedOperationException.class, () -> canonical.put(ENABLED, false));
+
+    Map<String, Object> parent = (Map<String, Object>) canonical.get(PARENT_FEATURE);
+    assertThrows(UnsupportedOperationException.class, () -> parent.put(ENABLED, false));
+  }
+
+  @Test
+  void shouldShareIdenticalFeatures() {
+    Map<String, Object> canonical1 = canonicalizer.canonicalize(TestFeatures.create(true, false));
+    Map<String, Object> canonical2 = canonicalizer.canonicalize(TestFeatures.create(true, false));
+
+    assertThat("Unexpected canonical instance.", canonical2, sameInstance(canonical1));
+  }
+
+  @Test
+  void shouldNotShareDifferentFeatures() {
+    Map<String, Object> canonical1 = canonicalizer.canonicalize(TestFeatures.create(true, false));
+    Map<String, Object> canonical2 = canonicalizer.canonicalize(TestFeatures.create(true, true));
+
+    assertThat("Unexpected canonical features.", canonical2, not(canonical1));
+  }
+
+  @Test
+  void shouldShareIdenticalSubtreesOfDifferentFeatures() {
+    Map<String, Object> canonical1 = canonicalizer.canonicalize(Map.of(
+        PARENT_FEATURE, Map.of(ENABLED, true),
+        CHILD_FEATURE, Map.of(ENABLED, true)
+    ));
+    Map<String, Object> canonical2 = canonicalizer.canonicalize(Map.of(
+        PARENT_FEATURE, Map.of(ENABLED, false),
+        CHILD_FEATURE, Map.of(ENABLED, true)
+    ));
+
+    assertThat("Unexpected canonical subtree instance.", canonical2.get(CHILD_FEATURE),
+        sameInstance(canonical1.get(CHILD_FEATURE)));
+  }
+
+  @Test
+  void shouldInternFeatureNames() {
+    String name1 = new String(PARENT_FEATURE.toCharArray());
+    String name2 = new String(PARENT_FEATURE.toCharArray());
+
+    canonicalizer.canonicalize(Map.of(name1, Map.of(ENABLED, true)));
+    Map<String, Object> canonical = canonicalizer.canonicalize(
+        Map.of(name2, Map.of(ENABLED, false)));
+
+    String key = canonical.keySet().iterator().next();
+    assertThat("Unexpected key instance.", key, sameInstance(name1));
+  }
+
+  @Test
+  void shouldNotInternFeatureValues() {
+    String value = new String(CHILD_FEATURE.toCharArray());
+    String name = new String(CHILD_FEATURE.toCharArray());
+
+    canonicalizer.canonicalize(Map.of(PARENT_FEATURE, value));
+    Map<String, Object> canonical = canonicalizer.canonicalize(
+        Map.of(name, Map.of(ENABLED, true)));
+
+    String key = canonical.keySet().iterator().next();
+    assertThat("Unexpected key instance.", key, sameInstance(name));
+  }
+
+  @Test
+  void shouldReturnCanonicalFeaturesWithoutCopying() {
+    Map<String, Object> canonical = canonicalizer.canonicalize(TestFeatures.create(true, false));
+
+    Map<String, Object> recanonical = canonicalizer.canonicalize(canonical);
+
+    assertThat("Unexpected canonical instance.", recanonical, sameInstance(canonical));
+  }
+
+  @Test
+  void shouldNotCopySeenFeaturesAgain() {
+    CountingMap features = new CountingMap(TestFeatures.create(true, false));
+
+    Map<String, Object> canonical1 = canonicalizer.canonicalize(features);
+    Map<String, Object> canonical2 = canonicalizer.canonicalize(features);
+
+    assertThat("Unexpected canonical instance.", canonical2, sameInstance(canonical1));
+    assertThat("Unexpected copy count.", features.copies, is(1));
+  }
+
+  @Test
+  void shouldCopySeenFeaturesAgainWhenCleared() {
+    CountingMap features = new CountingMap(TestFeatures.create(true, false));
+
+    canonicalizer.canonicalize(features);
+    canonicalizer.clear();
+    canonicalizer.canonicalize(features);
+
+    assertThat("Unexpected copy count.", features.copies, is(2));
+  }
+
+  @Test
+  void shouldReturnEmptyViewWhenNoFeatures() {
+    FeatureView view = canonicalizer.canonicalizeView(null);
+
+    assertThat("Unexpected view.", view, sameInstance(FeatureView.EMPTY));
+  }
+
+  @Test
+  void shouldReturnViewOfCanonicalFeatures() {
+    Map<String, Object> canonical = canonicalizer.canonicalize(TestFeatures.create(true, false));
+
+    FeatureView view = canonicalizer.canonicalizeView(TestFeatures.create(true, false));
+
+    assertThat("Unexpected view features.", view.getFeatures(), sameInstance(canonical));
+  }
+
+  @Test
+  void shouldCanonicalizeListValues() {
+    Map<String, Object> canonical = canonicalizer.canonicalize(Map.of(
+        PARENT_FEATURE, Map.of("values", List.of(Map.of(ENABLED, true)))
+    ));
+
+    Map<String, Object> parent = (Map<String, Object>) canonical.get(PARENT_FEATURE);
+    List<Object> values = (List<Object>) parent.get("values");
+    assertThat("Unexpected list values.", values, is(List.of(Map.of(ENABLED, true))));
+    assertThrows(UnsupportedOperationException.class, () -> values.add(Map.of()));
+  }
+
+  @Test
+  void shouldRemoveNullValues() {
+    Map<String, Object> features = new HashMap<>();
+    features.put(PARENT_FEATURE, Map.of(ENABLED, true));
+    features.put(CHILD_FEATURE, null);
+
+    Map<String, Object> canonical = canonicalizer.canonicalize(features);
+
+    assertThat("Unexpected canonical features.", canonical,
+        is(Map.of(PARENT_FEATURE, Map.of(ENABLED, true))));
+  }
+
+  @Test
+  void shouldNotShareFeaturesWhenCacheFull() {
+    canonicalizer = new FeatureCanonicalizer(0);
+
+    Map<String, Object> canonical1 = canonicalizer.canonicalize(TestFeatures.create(true, false));
+    Map<String, Object> canonical2 = canonicalizer.canonicalize(TestFeatures.create(true, false));
+
+    assertThat("Unexpected canonical features.", canonical2, is(canonical1));
+    assertThat("Unexpected canonical instance.", canonical2, not(sameInstance(canonical1)));
+    assertThat("Unexpected cache size.", canonicalizer.size(), is(0));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenMaxEntriesNegative() {
+    assertThrows(IllegalArgumentException.class, () -> new FeatureCanonicalizer(-1));
+  }
+
+  /**
+   * A feature map which counts how many times it has been copied.
+   */
+  private static class CountingMap extends HashMap<String, Object> {
+
+    private int copies;
+
+    CountingMap(Map<String, Object> features) {
+      super(features);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+      copies++;
+      return super.entrySet();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FeatureContextHolderTest {
+
+  @AfterEach
+  void tearDown() {
+    FeatureContextHolder.clearView();
+  }
+
+  @Test
+  void shouldReturnNullWhenNoViewInstalled() {
+    assertThat("Unexpected view.", FeatureContextHolder.getView(), nullValue());
+  }
+
+  @Test
+  void shouldReturnInstalledView() {
+    FeatureView view = FeatureView.of(Map.of());
+
+    FeatureContextHolder.setView(view);
+
+    assertThat("Unexpected view.", FeatureContextHolder.getView(), sameInstance(view));
+  }
+
+  @Test
+  void shouldClearViewWhenSetToNull() {
+    FeatureContextHolder.setView(FeatureView.of(Map.of()));
+
+    FeatureContextHolder.setView(null);
+
+    assertThat("Unexpected view.", FeatureContextHolder.getView(), nullValue());
+  }
+
+  @Test
+  void shouldClearView() {
+    FeatureContextHolder.setView(FeatureView.of(Map.of()));
+
+    FeatureContextHolder.clearView();
+
+    assertThat("Unexpected view.", FeatureContextHolder.getView(), nullValue());
+  }
+
+  @Test
+  void shouldNotInheritViewInNewThread() throws InterruptedException {
+    FeatureContextHolder.setView(FeatureView.of(Map.of()));
+    AtomicReference<FeatureView> childView = new AtomicReference<>(FeatureView.EMPTY);
+
+    Thread thread = new Thread(() -> childView.set(FeatureContextHolder.getView()));
+    thread.start();
+    thread.join();
+
+    assertThat("Unexpected view.", childView.get(), nullValue());
+  }
+}
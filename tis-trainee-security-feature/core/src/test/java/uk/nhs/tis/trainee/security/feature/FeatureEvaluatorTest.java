@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FeatureEvaluatorTest {
+
+  private static final String PARENT_FEATURE = "feature1";
+  private static final String CHILD_FEATURE = "feature2";
+  private static final String NESTED_FEATURE = PARENT_FEATURE + "." + CHILD_FEATURE;
+
+  private static final String ENABLED = "enabled";
+
+  @Test
+  void shouldReturnFalseWhenNoFeatures() {
+    boolean hasFeature = FeatureEvaluator.hasFeature(null, PARENT_FEATURE);
+
+    assertThat("Unexpected result.", hasFeature, is(false));
+  }
+
+  @Test
+  void shouldReturnFalseWhenFeatureNotExists() {
+    Map<String, Object> features = Map.of(
+        "not-feature1", Map.of(ENABLED, true)
+    );
+
+    boolean hasFeature = FeatureEvaluator.hasFeature(features, PARENT_FEATURE);
+
+    assertThat("Unexpected result.", hasFeature, is(false));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldReturnFeatureEnabledValueWhenFound(boolean enabled) {
+    Map<String, Object> features = Map.of(
+        PARENT_FEATURE, Map.of(ENABLED, enabled)
+    );
+
+    boolean hasFeature = FeatureEvaluator.hasFeature(features, PARENT_FEATURE);
+
+    assertThat("Unexpected result.", hasFeature, is(enabled));
+  }
+
+  @Test
+  void shouldReturnFalseWhenParentFeatureDisabledAndNestedFeatureEnabled() {
+    Map<String, Object> features = Map.of(
+        PARENT_FEATURE, Map.of(
+            ENABLED, false,
+            CHILD_FEATURE, Map.of(ENABLED, true))
+    );
+
+    boolean hasChildFeature = FeatureEvaluator.hasFeature(features, NESTED_FEATURE);
+
+    assertThat("Unexpected result.", hasChildFeature, is(false));
+  }
+
+  @Test
+  void shouldReturnTrueWhenParentFeatureEnabledAndNestedFeatureEnabled() {
+    Map<String, Object> features = Map.of(
+        PARENT_FEATURE, Map.of(
+            ENABLED, true,
+            CHILD_FEATURE, Map.of(ENABLED, true))
+    );
+
+    boolean hasChildFeature = FeatureEvaluator.hasFeature(features, NESTED_FEATURE);
+
+    assertThat("Unexpected result.", hasChildFeature, is(true));
+  }
+
+  @Test
+  void shouldRecordFeatureEvaluationEventWhenThresholdExceeded() throws IOException {
+    Map<String, Object> features = Map.of(
+        PARENT_FEATURE, Map.of(
+            ENABLED, true,
+            CHILD_FEATURE, Map.of(ENABLED, false))
+    );
+
+    List<RecordedEvent> events = RecordedEvents.record(FeatureEvaluationEvent.NAME, Duration.ZERO,
+        () -> FeatureEvaluator.hasFeature(features, NESTED_FEATURE));
+    assertThat("Unexpected event count.", events, hasSize(1));
+
+    RecordedEvent event = events.get(0);
+    assertThat("Unexpected feature path.", event.getString("featurePath"), is(NESTED_FEATURE));
+    assertThat("Unexpected depth.", event.getInt("depth"), is(1));
+    assertThat("Unexpected enabled value.", event.getBoolean("enabled"), is(false));
+    assertThat("Unexpected cache hit value.", event.getBoolean("cacheHit"), is(false));
+  }
+
+  @Test
+  void shouldNotRecordFeatureEvaluationEventWhenThresholdNotExceeded() throws IOException {
+    Map<String, Object> features = Map.of(PARENT_FEATURE, Map.of(ENABLED, true));
+
+    List<RecordedEvent> events = RecordedEvents.record(FeatureEvaluationEvent.NAME,
+        Duration.ofDays(1), () -> FeatureEvaluator.hasFeature(features, PARENT_FEATURE));
+    assertThat("Unexpected event count.", events, hasSize(0));
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class FeatureMatrixTest {
+
+  private static final String FEATURE_1 = "feature1";
+  private static final String FEATURE_2 = "feature2";
+
+  private FeatureMatrix matrix;
+
+  @BeforeEach
+  void setUp() {
+    matrix = new FeatureMatrix(List.of(FEATURE_1, FEATURE_2), 3);
+  }
+
+  @Test
+  void shouldReturnPathsAndRowCount() {
+    assertThat("Unexpected paths.", matrix.getPaths(), is(List.of(FEATURE_1, FEATURE_2)));
+    assertThat("Unexpected row count.", matrix.getRowCount(), is(3));
+  }
+
+  @Test
+  void shouldReturnFalseWhenNotEnabled() {
+    assertThat("Unexpected result.", matrix.isEnabled(0, 0), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(2, FEATURE_2), is(false));
+  }
+
+  @Test
+  void shouldReturnTrueOnlyForEnabledCell() {
+    matrix.setEnabled(1, 1);
+
+    assertThat("Unexpected result.", matrix.isEnabled(1, FEATURE_2), is(true));
+    assertThat("Unexpected result.", matrix.isEnabled(1, FEATURE_1), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(0, FEATURE_2), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(2, FEATURE_2), is(false));
+  }
+
+  @Test
+  void shouldReturnEnabledRows() {
+    matrix.setEnabled(0, 0);
+    matrix.setEnabled(2, 0);
+    matrix.setEnabled(1, 1);
+
+    BitSet expected = new BitSet();
+    expected.set(0);
+    expected.set(2);
+    assertThat("Unexpected enabled rows.", matrix.getEnabledRows(FEATURE_1), is(expected));
+  }
+
+  @Test
+  void shouldSupportMoreThanOneWordOfColumns() {
+    List<String> paths = IntStream.range(0, 130)
+        .mapToObj(i -> "feature" + i)
+        .toList();
+    matrix = new FeatureMatrix(paths, 2);
+
+    matrix.setEnabled(0, 129);
+    matrix.setEnabled(1, 64);
+
+    assertThat("Unexpected result.", matrix.isEnabled(0, 129), is(true));
+    assertThat("Unexpected result.", matrix.isEnabled(0, 1), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(0, 65), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(1, 64), is(true));
+    assertThat("Unexpected result.", matrix.isEnabled(1, 0), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(1, 129), is(false));
+  }
+
+  @Test
+  void shouldSupportMoreThanOneWordOfRows() {
+    matrix = new FeatureMatrix(List.of(FEATURE_1, FEATURE_2), 130);
+
+    matrix.setEnabled(0, 0);
+    matrix.setEnabled(64, 0);
+    matrix.setEnabled(129, 1);
+
+    BitSet expected = new BitSet();
+    expected.set(0);
+    expected.set(64);
+    assertThat("Unexpected enabled rows.", matrix.getEnabledRows(FEATURE_1), is(expected));
+    assertThat("Unexpected result.", matrix.isEnabled(129, FEATURE_2), is(true));
+    assertThat("Unexpected result.", matrix.isEnabled(65, FEATURE_2), is(false));
+    assertThat("Unexpected result.", matrix.isEnabled(1, FEATURE_2), is(false));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenPathNotEvaluated() {
+    assertThrows(IllegalArgumentException.class, () -> matrix.isEnabled(0, "feature3"));
+    assertThrows(IllegalArgumentException.class, () -> matrix.getEnabledRows("feature3"));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"-1,0", "3,0", "0,-1", "0,2"})
+  void shouldThrowExceptionWhenOutOfBounds(int row, int column) {
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.isEnabled(row, column));
+  }
+}
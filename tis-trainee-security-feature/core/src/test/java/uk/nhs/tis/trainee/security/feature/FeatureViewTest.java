@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FeatureViewTest {
+
+  @Test
+  void shouldReturnFalseWhenEmpty() {
+    boolean hasFeature = FeatureView.EMPTY.hasFeature("feature1");
+
+    assertThat("Unexpected result.", hasFeature, is(false));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldReturnFeatureEnabledValueWhenFound(boolean enabled) {
+    FeatureView view = FeatureView.of(Map.of(
+        "feature1", Map.of(
+            "enabled", true,
+            "feature2", Map.of("enabled", enabled))
+    ));
+
+    boolean hasFeature = view.hasFeature("feature1.feature2");
+
+    assertThat("Unexpected result.", hasFeature, is(enabled));
+  }
+
+  @Test
+  void shouldReturnEmptyViewWhenNoFeatures() {
+    FeatureView view = FeatureView.of(null);
+
+    assertThat("Unexpected view.", view, sameInstance(FeatureView.EMPTY));
+  }
+
+  @Test
+  void shouldNotChangeWhenSourceFeaturesModified() {
+    Map<String, Object> child = new HashMap<>(Map.of("enabled", true));
+    Map<String, Object> features = new HashMap<>(Map.of("feature1", child));
+    FeatureView view = FeatureView.of(features);
+
+    child.put("enabled", false);
+    features.put("feature2", Map.of("enabled", true));
+
+    assertThat("Unexpected feature1 result.", view.hasFeature("feature1"), is(true));
+    assertThat("Unexpected feature2 result.", view.hasFeature("feature2"), is(false));
+  }
+
+  @Test
+  void shouldReturnImmutableFeatures() {
+    FeatureView view = FeatureView.of(new HashMap<>(Map.of("feature1",
+        new HashMap<>(Map.of("enabled", true)))));
+
+    Map<String, Object> features = view.getFeatures();
+    assertThrows(UnsupportedOperationException.class, () -> features.put("feature2", true));
+
+    Map<?, ?> child = (Map<?, ?>) features.get("feature1");
+    assertThrows(UnsupportedOperationException.class, child::clear);
+  }
+
+  @Test
+  void shouldRecordCacheHitWhenThresholdExceeded() throws IOException {
+    FeatureView view = FeatureView.of(Map.of("feature1", Map.of("enabled", true)));
+
+    List<RecordedEvent> events = RecordedEvents.record(FeatureEvaluationEvent.NAME, Duration.ZERO,
+        () -> view.hasFeature("feature1"));
+    assertThat("Unexpected event count.", events, hasSize(1));
+
+    RecordedEvent event = events.get(0);
+    assertThat("Unexpected enabled value.", event.getBoolean("enabled"), is(true));
+    assertThat("Unexpected cache hit value.", event.getBoolean("cacheHit"), is(true));
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Test support for recording JDK Flight Recorder events emitted by an action.
+ */
+public final class RecordedEvents {
+
+  private RecordedEvents() {
+  }
+
+  /**
+   * Record the events of the given type emitted while running an action.
+   *
+   * @param eventName The name of the event type to record.
+   * @param threshold The minimum duration of events to record.
+   * @param action    The action to run while recording.
+   * @return The recorded events of the given type.
+   * @throws IOException If the recording could not be written or read.
+   */
+  public static List<RecordedEvent> record(String eventName, Duration threshold, Runnable action)
+      throws IOException {
+    Path recordingFile = Files.createTempFile("recording", ".jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.enable(eventName).withThreshold(threshold);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(recordingFile);
+
+      return RecordingFile.readAllEvents(recordingFile).stream()
+          .filter(e -> e.getEventType().getName().equals(eventName))
+          .toList();
+    } finally {
+      Files.deleteIfExists(recordingFile);
+    }
+  }
+}
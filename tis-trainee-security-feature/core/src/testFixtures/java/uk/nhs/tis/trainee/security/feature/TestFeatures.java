@@ -0,0 +1,55 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.Map;
+
+/**
+ * Test support for creating feature claims.
+ */
+public final class TestFeatures {
+
+  public static final String PARENT_FEATURE = "feature1";
+  public static final String CHILD_FEATURE = "feature2";
+
+  private static final String ENABLED = "enabled";
+
+  private TestFeatures() {
+  }
+
+  /**
+   * Create a features claim with a parent feature and a nested child feature.
+   *
+   * @param parentEnabled Whether the parent feature is enabled.
+   * @param childEnabled  Whether the child feature is enabled.
+   * @return The created features.
+   */
+  public static Map<String, Object> create(boolean parentEnabled, boolean childEnabled) {
+    return Map.of(
+        PARENT_FEATURE, Map.of(
+            ENABLED, parentEnabled,
+            CHILD_FEATURE, Map.of(ENABLED, childEnabled)
+        )
+    );
+  }
+}
@@ -0,0 +1,39 @@
+dependencies {
+  api(project(":core"))
+
+  // Authentication, Jwt and AccessDeniedException are part of this module's public API.
+  api("org.springframework.security:spring-security-oauth2-resource-server")
+  api("org.springframework.security:spring-security-oauth2-jose")
+}
+
+testing {
+  suites {
+    val test by getting(JvmTestSuite::class) {
+      dependencies {
+        implementation(testFixtures(project(":core")))
+        implementation("org.hamcrest:hamcrest")
+        implementation("org.mockito:mockito-core")
+      }
+    }
+
+    register<JvmTestSuite>("benchmark") {
+      dependencies {
+        implementation("org.openjdk.jmh:jmh-core:1.37")
+        annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+      }
+
+      // Include implementation dependencies.
+      val benchmarkImplementation by configurations.getting {
+        extendsFrom(configurations.implementation.get())
+      }
+    }
+  }
+}
+
+tasks.register<JavaExec>("jmh") {
+  description = "Runs the JMH benchmarks."
+  group = "verification"
+  classpath = sourceSets["benchmark"].runtimeClasspath
+  mainClass = "org.openjdk.jmh.Main"
+  args = listOfNotNull(project.findProperty("jmh.includes")?.toString())
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * Benchmark of the throughput of {@code @PreAuthorize("hasFeature(...)")} denials, comparing the
+ * standard {@link AccessDeniedException} with the stackless {@link FeatureDeniedException}.
+ *
+ * <p>Run using {@code ./gradlew :jwt:jmh -Pjmh.includes=FeatureDenialBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureDenialBenchmark {
+
+  @Param({"false", "true"})
+  public boolean throwFeatureDenied;
+
+  private SecuredService service;
+
+  /**
+   * Create a method security proxy, as configured by {@code @EnableMethodSecurity}, and
+   * authenticate a user without the required feature.
+   */
+  @Setup
+  public void setUp() {
+    PreAuthorizeAuthorizationManager preAuthorize = new PreAuthorizeAuthorizationManager();
+    preAuthorize.setExpressionHandler(
+        new FeatureMethodSecurityExpressionHandler(new FeatureChecker()));
+
+    AuthorizationManager<MethodInvocation> manager = throwFeatureDenied
+        ? new FeatureDeniedAuthorizationManager(preAuthorize)
+        : preAuthorize;
+
+    ProxyFactory proxyFactory = new ProxyFactory(new SecuredService());
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAdvisor(AuthorizationManagerBeforeMethodInterceptor.preAuthorize(manager));
+    service = (SecuredService) proxyFactory.getProxy();
+
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim("features", Map.of("feature1", Map.of("enabled", false)))
+        .build();
+
+    // Benchmark threads differ from the setup thread, so the context must be global.
+    SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+    SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+  }
+
+  /**
+   * Invoke a feature protected method which is always denied.
+   *
+   * @return The thrown denial exception.
+   */
+  @Benchmark
+  public Object deny() {
+    try {
+      return service.protectedFeature1();
+    } catch (AccessDeniedException e) {
+      return e;
+    }
+  }
+
+  /**
+   * A service with a feature protected method.
+   */
+  public static class SecuredService {
+
+    /**
+     * A method protected by the "feature1" feature.
+     *
+     * @return A value, if the feature is enabled.
+     */
+    @PreAuthorize("hasFeature('feature1')")
+    public String protectedFeature1() {
+      return "feature1";
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.Map;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * Component that evaluates JWT claims to determine whether a given feature is enabled for the
+ * current user.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * boolean allowed = featureChecker.hasFeature(authentication, "parentFeature.childFeature");
+ * </pre>
+ *
+ * <p>This class is typically used in conjunction with
+ * {@link org.springframework.security.access.prepost.PreAuthorize} to provide method-level security
+ * based on JWT features.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>@PreAuthorize("hasFeature('parentFeature.childFeature')")</pre>
+ */
+public class FeatureChecker {
+
+  private static final String FEATURES_CLAIM = "features";
+
+  private final FeatureCanonicalizer canonicalizer;
+
+  /**
+   * Create a feature checker with its own {@link FeatureCanonicalizer}.
+   */
+  public FeatureChecker() {
+    this(new FeatureCanonicalizer());
+  }
+
+  /**
+   * Create a feature checker.
+   *
+   * @param canonicalizer The {@link FeatureCanonicalizer} used to share resolved feature views.
+   */
+  public FeatureChecker(FeatureCanonicalizer canonicalizer) {
+    this.canonicalizer = canonicalizer;
+  }
+
+  /**
+   * Determines whether the given feature is enabled for the supplied authentication.
+   *
+   * <p>Slow evaluations are recorded as {@code FeatureEvaluation} JDK Flight Recorder events.</p>
+   *
+   * @param authentication The authentication to use, must be JWT.
+   * @param featurePath    Dot-delimited path to the feature in the JWT claims e.g.
+   *                       "parentFeature.childFeature".
+   * @return true if the feature is enabled, or false if not found or disabled.
+   */
+  public boolean hasFeature(Authentication authentication, String featurePath) {
+    return FeatureEvaluator.hasFeature(getFeatures(authentication), featurePath);
+  }
+
+  /**
+   * Determines whether the given feature is enabled for the current user.
+   *
+   * <p>The {@link FeatureView} installed in the {@link FeatureContextHolder} is used if present,
+   * such as in tasks decorated by the {@code FeatureContextTaskDecorator}, otherwise the features
+   * are read from the current security context.</p>
+   *
+   * @param featurePath Dot-delimited path to the feature in the JWT claims e.g.
+   *                    "parentFeature.childFeature".
+   * @return true if the feature is enabled, or false if not found or disabled.
+   */
+  public boolean hasFeature(String featurePath) {
+    FeatureView view = FeatureContextHolder.getView();
+
+    if (view != null) {
+      return view.hasFeature(featurePath);
+    }
+
+    return hasFeature(SecurityContextHolder.getContext().getAuthentication(), featurePath);
+  }
+
+  /**
+   * Resolve an immutable view of the features for the supplied authentication, identical feature
+   * trees are shared between views.
+   *
+   * <p>Features already resolved from the same token are recognised by the canonicalizer and are
+   * not copied again, so a request which submits many tasks copies its features once.</p>
+   *
+   * @param authentication The authentication to use, must be JWT.
+   * @return The resolved features, or an empty view if there are no features.
+   */
+  public FeatureView resolveFeatures(Authentication authentication) {
+    return canonicalizer.canonicalizeView(getFeatures(authentication));
+  }
+
+  /**
+   * Get the features claim from the supplied authentication.
+   *
+   * @param authentication The authentication to use, must be JWT.
+   * @return The map of features from the JWT claims, or null if not found.
+   */
+  private Map<String, Object> getFeatures(Authentication authentication) {
+    if (authentication instanceof JwtAuthenticationToken jwt) {
+      return jwt.getToken().getClaim(FEATURES_CLAIM);
+    }
+
+    return null;
+  }
+}
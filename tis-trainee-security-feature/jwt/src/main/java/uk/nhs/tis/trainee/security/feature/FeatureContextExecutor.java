@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.concurrent.Executor;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * An {@link Executor} which propagates the submitting thread's resolved {@link FeatureView} to each
+ * task, using a {@link FeatureContextTaskDecorator}.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * Executor executor = new FeatureContextExecutor(
+ *     Executors.newVirtualThreadPerTaskExecutor(), featureChecker);
+ * CompletableFuture.supplyAsync(() -&gt; featureChecker.hasFeature("forms.ltft"), executor);
+ * </pre>
+ */
+public class FeatureContextExecutor implements Executor {
+
+  private final Executor delegate;
+  private final TaskDecorator taskDecorator;
+
+  /**
+   * Create an executor which propagates the current features.
+   *
+   * @param delegate       The executor to run tasks with.
+   * @param featureChecker The {@link FeatureChecker} used to resolve features.
+   */
+  public FeatureContextExecutor(Executor delegate, FeatureChecker featureChecker) {
+    this.delegate = delegate;
+    this.taskDecorator = new FeatureContextTaskDecorator(featureChecker);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    delegate.execute(taskDecorator.decorate(command));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * A {@link TaskDecorator} which captures the submitting thread's resolved {@link FeatureView} and
+ * installs it for the duration of the task.
+ *
+ * <p>The view is captured once when the task is decorated, from the current
+ * {@link FeatureContextHolder} or else resolved from the current security context. The previous
+ * view of the executing thread is restored once the task completes, so pooled threads do not leak
+ * features between tasks.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+ * executor.setTaskDecorator(new FeatureContextTaskDecorator(featureChecker));
+ * </pre>
+ */
+public class FeatureContextTaskDecorator implements TaskDecorator {
+
+  private final FeatureChecker featureChecker;
+
+  /**
+   * Create a task decorator which propagates the current features.
+   *
+   * @param featureChecker The {@link FeatureChecker} used to resolve features.
+   */
+  public FeatureContextTaskDecorator(FeatureChecker featureChecker) {
+    this.featureChecker = featureChecker;
+  }
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    FeatureView view = FeatureContextHolder.getView();
+
+    if (view == null) {
+      view = featureChecker.resolveFeatures(
+          SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    FeatureView capturedView = view;
+
+    return () -> {
+      FeatureView previousView = FeatureContextHolder.getView();
+      FeatureContextHolder.setView(capturedView);
+
+      try {
+        runnable.run();
+      } finally {
+        FeatureContextHolder.setView(previousView);
+      }
+    };
+  }
+}
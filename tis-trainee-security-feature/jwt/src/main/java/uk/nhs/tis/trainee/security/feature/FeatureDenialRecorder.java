@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+/**
+ * Records the first feature found to be disabled while an authorization decision is made.
+ *
+ * <p>A recorder is started on the current thread before the decision is made, the expression root
+ * created while it is current takes it, and records any disabled features to it. This allows the
+ * decision to be made as normal, with the disabled feature only used once the whole expression has
+ * denied access. Taking the recorder removes it from the thread, so it is not retained even if the
+ * decision completes on another thread.</p>
+ */
+public final class FeatureDenialRecorder {
+
+  private static final ThreadLocal<FeatureDenialRecorder> CURRENT = new ThreadLocal<>();
+
+  private final FeatureDenialRecorder previous;
+  private volatile String featurePath;
+
+  /**
+   * Create a recorder.
+   *
+   * @param previous The recorder to restore when this recorder is stopped.
+   */
+  private FeatureDenialRecorder(FeatureDenialRecorder previous) {
+    this.previous = previous;
+  }
+
+  /**
+   * Start a recorder on the current thread, which must be stopped once the decision is made.
+   *
+   * @return The started recorder.
+   */
+  public static FeatureDenialRecorder start() {
+    FeatureDenialRecorder recorder = new FeatureDenialRecorder(CURRENT.get());
+    CURRENT.set(recorder);
+    return recorder;
+  }
+
+  /**
+   * Get the recorder for the current thread.
+   *
+   * @return The current recorder, or null if none started.
+   */
+  static FeatureDenialRecorder current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Take the recorder for the current thread, restoring the previous recorder.
+   *
+   * @return The taken recorder, or null if none started.
+   */
+  static FeatureDenialRecorder take() {
+    FeatureDenialRecorder recorder = CURRENT.get();
+
+    if (recorder != null) {
+      recorder.stop();
+    }
+
+    return recorder;
+  }
+
+  /**
+   * Stop the recorder, restoring the previous recorder if it is current on this thread.
+   */
+  public void stop() {
+    if (CURRENT.get() != this) {
+      return;
+    }
+
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  /**
+   * Record a disabled feature, only the first disabled feature is kept.
+   *
+   * @param featurePath The dot-delimited path of the disabled feature.
+   */
+  void record(String featurePath) {
+    if (this.featurePath == null) {
+      this.featurePath = featurePath;
+    }
+  }
+
+  /**
+   * Get the first disabled feature recorded.
+   *
+   * @return The dot-delimited feature path, or null if no disabled features were recorded.
+   */
+  public String getFeaturePath() {
+    return featurePath;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationEventPublisher;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+/**
+ * An {@link AuthorizationManager} which throws a lightweight {@link FeatureDeniedException} when
+ * access is denied because of a disabled feature.
+ *
+ * <p>The wrapped manager, typically a {@code PreAuthorizeAuthorizationManager} using the
+ * {@link FeatureMethodSecurityExpressionHandler}, makes the decision as normal. Only once the whole
+ * expression has denied access, and a {@code hasFeature} check returned false while evaluating it,
+ * is the exception thrown. Expressions such as {@code !hasFeature('beta')} or
+ * {@code hasFeature('a') or hasRole('ADMIN')} therefore grant the same access as without this
+ * manager.</p>
+ *
+ * <p>As the exception is thrown before the method interceptor sees the decision, the denial event
+ * is published by this manager instead, using the publisher set by
+ * {@link #setAuthorizationEventPublisher(AuthorizationEventPublisher)}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * PreAuthorizeAuthorizationManager manager = new PreAuthorizeAuthorizationManager();
+ * manager.setExpressionHandler(handler);
+ * return AuthorizationManagerBeforeMethodInterceptor.preAuthorize(
+ *     new FeatureDeniedAuthorizationManager(manager));
+ * </pre>
+ */
+public class FeatureDeniedAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+  private static final AuthenticationTrustResolver TRUST_RESOLVER =
+      new AuthenticationTrustResolverImpl();
+
+  private final AuthorizationManager<MethodInvocation> delegate;
+  private AuthorizationEventPublisher eventPublisher = FeatureDeniedAuthorizationManager::noPublish;
+
+  /**
+   * Create a feature denied authorization manager.
+   *
+   * @param delegate The manager which makes the authorization decision.
+   */
+  public FeatureDeniedAuthorizationManager(AuthorizationManager<MethodInvocation> delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws FeatureDeniedException If access is denied to an authenticated user and a feature was
+   *                                found to be disabled.
+   */
+  @Override
+  public AuthorizationDecision check(Supplier<Authentication> authentication,
+      MethodInvocation invocation) {
+    FeatureDenialRecorder recorder = FeatureDenialRecorder.start();
+    AuthorizationDecision decision;
+
+    try {
+      decision = delegate.check(authentication, invocation);
+    } finally {
+      recorder.stop();
+    }
+
+    String featurePath = recorder.getFeaturePath();
+
+    // Anonymous users are left to the standard denial, so they are challenged to authenticate.
+    if (decision != null && !decision.isGranted() && featurePath != null
+        && !TRUST_RESOLVER.isAnonymous(authentication.get())) {
+      eventPublisher.publishAuthorizationEvent(authentication, invocation, decision);
+      throw FeatureDeniedException.forFeature(featurePath);
+    }
+
+    return decision;
+  }
+
+  /**
+   * Set the publisher for denials which throw a {@link FeatureDeniedException}, this should be the
+   * same publisher used by the method interceptor.
+   *
+   * @param eventPublisher The publisher to use.
+   */
+  public void setAuthorizationEventPublisher(AuthorizationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Discard the authorization event, used when no publisher is set.
+   *
+   * @param authentication The authentication the decision was made for.
+   * @param object         The secured object.
+   * @param decision       The decision made.
+   * @param <T>            The type of the secured object.
+   */
+  private static <T> void noPublish(Supplier<Authentication> authentication, T object,
+      AuthorizationDecision decision) {
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.security.access.AccessDeniedException;
+
+/**
+ * A lightweight {@link AccessDeniedException} thrown when a required feature is not enabled.
+ *
+ * <p>Instances do not capture a stack trace, so repeated denials do not pay the cost of filling in
+ * a deep Spring AOP stack. A new instance is created for each denial, as throwables carry mutable
+ * state such as the cause and suppressed exceptions, but the rendered response body is shared per
+ * feature path.</p>
+ *
+ * <p>As a subclass of {@link AccessDeniedException} it is still handled by the standard Spring
+ * Security exception handling, or the servlet and reactive modules can be used to write a minimal
+ * response.</p>
+ */
+public final class FeatureDeniedException extends AccessDeniedException {
+
+  private static final int MAX_SHARED_BODIES = 1024;
+  private static final ConcurrentMap<String, byte[]> RESPONSE_BODIES = new ConcurrentHashMap<>();
+
+  private final String featurePath;
+  private final byte[] responseBody;
+
+  /**
+   * Create an exception for the given feature path.
+   *
+   * @param featurePath  The dot-delimited path of the feature which was not enabled.
+   * @param responseBody The rendered response body for the feature path.
+   */
+  private FeatureDeniedException(String featurePath, byte[] responseBody) {
+    super("Feature not enabled: " + featurePath);
+    this.featurePath = featurePath;
+    this.responseBody = responseBody;
+  }
+
+  /**
+   * Create an exception for the given feature path.
+   *
+   * @param featurePath The dot-delimited path of the feature which was not enabled.
+   * @return The created exception.
+   */
+  public static FeatureDeniedException forFeature(String featurePath) {
+    byte[] responseBody = RESPONSE_BODIES.get(featurePath);
+
+    if (responseBody == null) {
+      responseBody = renderResponseBody(featurePath);
+
+      if (RESPONSE_BODIES.size() < MAX_SHARED_BODIES) {
+        RESPONSE_BODIES.putIfAbsent(featurePath, responseBody);
+      }
+    }
+
+    return new FeatureDeniedException(featurePath, responseBody);
+  }
+
+  /**
+   * Render the JSON response body for a feature path.
+   *
+   * @param featurePath The dot-delimited path of the feature which was not enabled.
+   * @return The UTF-8 encoded response body.
+   */
+  private static byte[] renderResponseBody(String featurePath) {
+    String escapedPath = featurePath.replace("\\", "\\\\").replace("\"", "\\\"");
+    return ("{\"feature\":\"" + escapedPath + "\"}").getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Get the path of the feature which was not enabled.
+   *
+   * @return The dot-delimited feature path.
+   */
+  public String getFeaturePath() {
+    return featurePath;
+  }
+
+  /**
+   * Get the pre-rendered JSON response body, containing the feature path.
+   *
+   * <p>The body is shared between denials of the same feature, so is only exposed to the response
+   * writers in this package, which must not modify it.</p>
+   *
+   * @return The shared UTF-8 encoded response body.
+   */
+  byte[] getResponseBody() {
+    return responseBody;
+  }
+
+  /**
+   * Skip capturing the stack trace, which is not useful for an expected denial.
+   *
+   * @return This exception.
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
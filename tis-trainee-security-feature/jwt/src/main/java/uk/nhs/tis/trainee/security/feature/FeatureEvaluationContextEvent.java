@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for the creation of a method security evaluation context by
+ * {@link FeatureMethodSecurityExpressionHandler}.
+ *
+ * <p>Only context creations exceeding the threshold are recorded by default, the threshold can be
+ * overridden using the event name in a recording's settings.</p>
+ */
+@Name(FeatureEvaluationContextEvent.NAME)
+@Label("Feature Evaluation Context")
+@Category({"TIS Trainee", "Security Feature"})
+@Description("Creation of the evaluation context for a feature secured method invocation.")
+@StackTrace(false)
+@Threshold("1 ms")
+final class FeatureEvaluationContextEvent extends Event {
+
+  static final String NAME = "uk.nhs.tis.trainee.security.feature.FeatureEvaluationContext";
+
+  @Label("Method")
+  @Description("The secured method being invoked.")
+  String method;
+}
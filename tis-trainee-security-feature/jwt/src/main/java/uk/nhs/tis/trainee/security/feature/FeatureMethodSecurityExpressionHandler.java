@@ -22,15 +22,20 @@
 
 package uk.nhs.tis.trainee.security.feature;
 
+import java.lang.reflect.Method;
 import java.util.function.Supplier;
 import org.aopalliance.intercept.MethodInvocation;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
 import org.springframework.security.core.Authentication;
 
 /**
  * A Feature-based implementation of MethodSecurityExpressionHandler.
+ *
+ * <p>Both servlet and reactive method security use a {@link FeatureSecurityExpressionRoot}, so
+ * {@code hasFeature} is available to {@code @PreAuthorize} expressions in either.</p>
  */
 public class FeatureMethodSecurityExpressionHandler extends DefaultMethodSecurityExpressionHandler {
 
@@ -45,14 +50,60 @@ public class FeatureMethodSecurityExpressionHandler extends DefaultMethodSecurit
     this.featureChecker = featureChecker;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Slow context creations are recorded as {@code FeatureEvaluationContext} JDK Flight Recorder
+   * events.</p>
+   */
   @Override
   public EvaluationContext createEvaluationContext(Supplier<Authentication> authentication,
       MethodInvocation mi) {
+    FeatureEvaluationContextEvent event = new FeatureEvaluationContextEvent();
+    event.begin();
+
     StandardEvaluationContext context = (StandardEvaluationContext) super.createEvaluationContext(
         authentication, mi);
     FeatureSecurityExpressionRoot root = new FeatureSecurityExpressionRoot(authentication,
         featureChecker);
-    context.setRootObject(root);
+    context.setRootObject(configure(root, mi));
+
+    event.end();
+    if (event.shouldCommit()) {
+      Method method = mi.getMethod();
+      event.method = method.getDeclaringClass().getName() + "." + method.getName();
+      event.commit();
+    }
+
     return context;
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Used by reactive method security, which creates the context from a resolved
+   * authentication.</p>
+   */
+  @Override
+  protected MethodSecurityExpressionOperations createSecurityExpressionRoot(
+      Authentication authentication, MethodInvocation invocation) {
+    return configure(new FeatureSecurityExpressionRoot(authentication, featureChecker), invocation);
+  }
+
+  /**
+   * Configure a root with this handler's settings, as done for the default root.
+   *
+   * @param root       The root to configure.
+   * @param invocation The secured method invocation.
+   * @return The configured root.
+   */
+  private FeatureSecurityExpressionRoot configure(FeatureSecurityExpressionRoot root,
+      MethodInvocation invocation) {
+    root.setThis(invocation.getThis());
+    root.setPermissionEvaluator(getPermissionEvaluator());
+    root.setTrustResolver(getTrustResolver());
+    root.setRoleHierarchy(getRoleHierarchy());
+    root.setDefaultRolePrefix(getDefaultRolePrefix());
+    return root;
+  }
 }
@@ -24,14 +24,24 @@ package uk.nhs.tis.trainee.security.feature;
 
 import java.util.function.Supplier;
 import org.springframework.security.access.expression.SecurityExpressionRoot;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
 import org.springframework.security.core.Authentication;
 
 /**
  * Feature root object for use in Spring Security expression evaluations.
+ *
+ * <p>Disabled features are recorded to the {@link FeatureDenialRecorder} current when the root is
+ * created, if any, which the root takes from the thread.</p>
  */
-public class FeatureSecurityExpressionRoot extends SecurityExpressionRoot {
+public class FeatureSecurityExpressionRoot extends SecurityExpressionRoot implements
+    MethodSecurityExpressionOperations {
 
   private final FeatureChecker checker;
+  private final FeatureDenialRecorder recorder;
+
+  private Object filterObject;
+  private Object returnObject;
+  private Object target;
 
   /**
    * Construct a root object for use in Spring Security expression evaluations.
@@ -43,6 +53,20 @@ public class FeatureSecurityExpressionRoot extends SecurityExpressionRoot {
       FeatureChecker checker) {
     super(authentication);
     this.checker = checker;
+    this.recorder = FeatureDenialRecorder.take();
+  }
+
+  /**
+   * Construct a root object for use in Spring Security expression evaluations, such as reactive
+   * method security where the user is already authenticated.
+   *
+   * @param authentication The authenticated user.
+   * @param checker        The {@link FeatureChecker} to be used.
+   */
+  public FeatureSecurityExpressionRoot(Authentication authentication, FeatureChecker checker) {
+    super(authentication);
+    this.checker = checker;
+    this.recorder = FeatureDenialRecorder.take();
   }
 
   /**
@@ -53,6 +77,46 @@ public class FeatureSecurityExpressionRoot extends SecurityExpressionRoot {
    * @return true if the feature is enabled, or false if not found or disabled.
    */
   public boolean hasFeature(String featurePath) {
-    return checker.hasFeature(getAuthentication(), featurePath);
+    boolean enabled = checker.hasFeature(getAuthentication(), featurePath);
+
+    if (!enabled && recorder != null) {
+      recorder.record(featurePath);
+    }
+
+    return enabled;
+  }
+
+  @Override
+  public void setFilterObject(Object filterObject) {
+    this.filterObject = filterObject;
+  }
+
+  @Override
+  public Object getFilterObject() {
+    return filterObject;
+  }
+
+  @Override
+  public void setReturnObject(Object returnObject) {
+    this.returnObject = returnObject;
+  }
+
+  @Override
+  public Object getReturnObject() {
+    return returnObject;
+  }
+
+  /**
+   * Set the object on which the secured method is invoked.
+   *
+   * @param target The invocation target.
+   */
+  void setThis(Object target) {
+    this.target = target;
+  }
+
+  @Override
+  public Object getThis() {
+    return target;
   }
 }
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Component that evaluates a set of features for many JWTs at once, using a
+ * {@link FeatureBatchEvaluator}.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * FeatureMatrix matrix = evaluator.evaluateTokens(jwts, List.of("notifications.email"));
+ * BitSet emailEnabled = matrix.getEnabledRows("notifications.email");
+ * </pre>
+ */
+public class JwtFeatureBatchEvaluator {
+
+  private static final String FEATURES_CLAIM = "features";
+
+  private final FeatureBatchEvaluator batchEvaluator;
+
+  /**
+   * Create a JWT batch evaluator using the common fork-join pool.
+   */
+  public JwtFeatureBatchEvaluator() {
+    this(new FeatureBatchEvaluator());
+  }
+
+  /**
+   * Create a JWT batch evaluator.
+   *
+   * @param batchEvaluator The {@link FeatureBatchEvaluator} to evaluate the features claims with.
+   */
+  public JwtFeatureBatchEvaluator(FeatureBatchEvaluator batchEvaluator) {
+    this.batchEvaluator = batchEvaluator;
+  }
+
+  /**
+   * Evaluate the given features for each JWT.
+   *
+   * @param tokens       The JWTs to evaluate, one row per token.
+   * @param featurePaths The dot-delimited feature paths to evaluate, one column per path.
+   * @return The matrix of results.
+   */
+  public FeatureMatrix evaluateTokens(Collection<Jwt> tokens, Collection<String> featurePaths) {
+    return evaluateTokens(tokens.stream(), featurePaths);
+  }
+
+  /**
+   * Evaluate the given features for each JWT.
+   *
+   * @param tokens       The JWTs to evaluate, one row per token in encounter order.
+   * @param featurePaths The dot-delimited feature paths to evaluate, one column per path.
+   * @return The matrix of results.
+   */
+  public FeatureMatrix evaluateTokens(Stream<Jwt> tokens, Collection<String> featurePaths) {
+    return batchEvaluator.evaluate(
+        tokens.map(jwt -> jwt.<Map<String, Object>>getClaim(FEATURES_CLAIM)), featurePaths);
+  }
+}
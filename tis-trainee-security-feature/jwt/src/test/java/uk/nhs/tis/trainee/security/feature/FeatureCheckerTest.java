@@ -24,14 +24,17 @@ package uk.nhs.tis.trainee.security.feature;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
@@ -51,6 +54,12 @@ class FeatureCheckerTest {
     checker = new FeatureChecker();
   }
 
+  @AfterEach
+  void tearDown() {
+    FeatureContextHolder.clearView();
+    SecurityContextHolder.clearContext();
+  }
+
   @Test
   void shouldReturnFalseWhenNoAuth() {
     boolean hasFeature = checker.hasFeature(null, PARENT_FEATURE);
@@ -178,4 +187,84 @@ class FeatureCheckerTest {
     boolean hasChildFeature = checker.hasFeature(authentication, NESTED_FEATURE);
     assertThat("Unexpected result.", hasChildFeature, is(true));
   }
+
+  @Test
+  void shouldResolveEmptyViewWhenAuthNotJwt() {
+    Authentication authentication = new TestingAuthenticationToken(null, null);
+
+    FeatureView view = checker.resolveFeatures(authentication);
+
+    assertThat("Unexpected view.", view, sameInstance(FeatureView.EMPTY));
+  }
+
+  @Test
+  void shouldResolveEmptyViewWhenAuthJwtHasNoFeatures() {
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim("not-features", "")
+        .build();
+    Authentication authentication = new JwtAuthenticationToken(jwt);
+
+    FeatureView view = checker.resolveFeatures(authentication);
+
+    assertThat("Unexpected view.", view, sameInstance(FeatureView.EMPTY));
+  }
+
+  @Test
+  void shouldResolveSharedFeaturesForIdenticalTokens() {
+    Jwt jwt1 = Jwt.withTokenValue("mock-token-1")
+        .header("alg", "none")
+        .claim(FEATURES_CLAIM, Map.of(PARENT_FEATURE, Map.of(ENABLED, true)))
+        .build();
+    Jwt jwt2 = Jwt.withTokenValue("mock-token-2")
+        .header("alg", "none")
+        .claim(FEATURES_CLAIM, Map.of(PARENT_FEATURE, Map.of(ENABLED, true)))
+        .build();
+
+    FeatureView view1 = checker.resolveFeatures(new JwtAuthenticationToken(jwt1));
+    FeatureView view2 = checker.resolveFeatures(new JwtAuthenticationToken(jwt2));
+
+    assertThat("Unexpected features.", view1.getFeatures(),
+        is(Map.of(PARENT_FEATURE, Map.of(ENABLED, true))));
+    assertThat("Unexpected features instance.", view2.getFeatures(),
+        sameInstance(view1.getFeatures()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldReturnInstalledViewFeatureWhenViewInstalled(boolean enabled) {
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim(FEATURES_CLAIM, Map.of(PARENT_FEATURE, Map.of(ENABLED, !enabled)))
+        .build();
+    SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+    FeatureContextHolder.setView(
+        FeatureView.of(Map.of(PARENT_FEATURE, Map.of(ENABLED, enabled))));
+
+    boolean hasFeature = checker.hasFeature(PARENT_FEATURE);
+
+    assertThat("Unexpected result.", hasFeature, is(enabled));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldReturnSecurityContextFeatureWhenNoViewInstalled(boolean enabled) {
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim(FEATURES_CLAIM, Map.of(PARENT_FEATURE, Map.of(ENABLED, enabled)))
+        .build();
+    SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+    boolean hasFeature = checker.hasFeature(PARENT_FEATURE);
+
+    assertThat("Unexpected result.", hasFeature, is(enabled));
+  }
+
+  @Test
+  void shouldReturnFalseWhenNoViewInstalledAndNoAuth() {
+    boolean hasFeature = checker.hasFeature(PARENT_FEATURE);
+
+    assertThat("Unexpected result.", hasFeature, is(false));
+  }
 }
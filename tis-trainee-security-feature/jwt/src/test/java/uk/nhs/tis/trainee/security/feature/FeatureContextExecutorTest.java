@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+class FeatureContextExecutorTest {
+
+  private ExecutorService delegate;
+  private FeatureChecker featureChecker;
+  private FeatureContextExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    delegate = Executors.newSingleThreadExecutor();
+    featureChecker = new FeatureChecker();
+    executor = new FeatureContextExecutor(delegate, featureChecker);
+  }
+
+  @AfterEach
+  void tearDown() {
+    delegate.shutdownNow();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void shouldPropagateFeaturesToTask()
+      throws ExecutionException, InterruptedException, TimeoutException {
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim("features", Map.of("feature1", Map.of("enabled", true)))
+        .build();
+    SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+    boolean hasFeature = CompletableFuture
+        .supplyAsync(() -> featureChecker.hasFeature("feature1"), executor)
+        .get(10, TimeUnit.SECONDS);
+
+    assertThat("Unexpected result.", hasFeature, is(true));
+  }
+
+  @Test
+  void shouldNotLeakFeaturesToLaterTasks()
+      throws ExecutionException, InterruptedException, TimeoutException {
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim("features", Map.of("feature1", Map.of("enabled", true)))
+        .build();
+    SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+    CompletableFuture.runAsync(() -> { }, executor).get(10, TimeUnit.SECONDS);
+
+    boolean hasView = CompletableFuture
+        .supplyAsync(() -> FeatureContextHolder.getView() != null, delegate)
+        .get(10, TimeUnit.SECONDS);
+
+    assertThat("Unexpected view presence.", hasView, is(false));
+  }
+}
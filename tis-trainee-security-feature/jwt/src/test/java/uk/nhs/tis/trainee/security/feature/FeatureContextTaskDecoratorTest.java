@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+class FeatureContextTaskDecoratorTest {
+
+  private final AtomicReference<FeatureView> capturedView = new AtomicReference<>();
+
+  private FeatureContextTaskDecorator decorator;
+
+  @BeforeEach
+  void setUp() {
+    decorator = new FeatureContextTaskDecorator(new FeatureChecker());
+  }
+
+  @AfterEach
+  void tearDown() {
+    FeatureContextHolder.clearView();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void shouldInstallCurrentViewWhenViewInstalled() {
+    FeatureView view = FeatureView.of(Map.of());
+    FeatureContextHolder.setView(view);
+    Runnable task = decorator.decorate(captureView());
+
+    FeatureContextHolder.clearView();
+    task.run();
+
+    assertThat("Unexpected view.", capturedView.get(), sameInstance(view));
+  }
+
+  @Test
+  void shouldInstallResolvedViewWhenNoViewInstalled() {
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim("features", Map.of("feature1", Map.of("enabled", true)))
+        .build();
+    SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    Runnable task = decorator.decorate(captureView());
+
+    SecurityContextHolder.clearContext();
+    task.run();
+
+    assertThat("Unexpected feature result.", capturedView.get().hasFeature("feature1"), is(true));
+  }
+
+  @Test
+  void shouldInstallEmptyViewWhenNoAuthentication() {
+    Runnable task = decorator.decorate(captureView());
+
+    task.run();
+
+    assertThat("Unexpected view.", capturedView.get(), sameInstance(FeatureView.EMPTY));
+  }
+
+  @Test
+  void shouldRestorePreviousViewWhenTaskCompletes() {
+    FeatureView view = FeatureView.of(Map.of());
+    FeatureContextHolder.setView(view);
+    Runnable task = decorator.decorate(captureView());
+
+    FeatureView previousView = FeatureView.of(Map.of());
+    FeatureContextHolder.setView(previousView);
+    task.run();
+
+    assertThat("Unexpected view.", FeatureContextHolder.getView(), sameInstance(previousView));
+  }
+
+  @Test
+  void shouldClearViewWhenTaskFailsWithNoPreviousView() {
+    FeatureContextHolder.setView(FeatureView.of(Map.of()));
+    Runnable task = decorator.decorate(() -> {
+      throw new IllegalStateException("Expected failure.");
+    });
+
+    FeatureContextHolder.clearView();
+    assertThrows(IllegalStateException.class, task::run);
+
+    assertThat("Unexpected view.", FeatureContextHolder.getView(), nullValue());
+  }
+
+  /**
+   * Create a task which captures the installed view when run.
+   *
+   * @return The created task.
+   */
+  private Runnable captureView() {
+    return () -> capturedView.set(FeatureContextHolder.getView());
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FeatureDenialRecorderTest {
+
+  @AfterEach
+  void tearDown() {
+    FeatureDenialRecorder recorder = FeatureDenialRecorder.current();
+    while (recorder != null) {
+      recorder.stop();
+      recorder = FeatureDenialRecorder.current();
+    }
+  }
+
+  @Test
+  void shouldHaveNoCurrentRecorderByDefault() {
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), nullValue());
+  }
+
+  @Test
+  void shouldKeepFirstRecordedFeature() {
+    FeatureDenialRecorder recorder = FeatureDenialRecorder.start();
+
+    recorder.record("feature1");
+    recorder.record("feature2");
+
+    assertThat("Unexpected feature path.", recorder.getFeaturePath(), is("feature1"));
+  }
+
+  @Test
+  void shouldRestorePreviousRecorderWhenStopped() {
+    FeatureDenialRecorder outer = FeatureDenialRecorder.start();
+    FeatureDenialRecorder inner = FeatureDenialRecorder.start();
+
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), sameInstance(inner));
+
+    inner.stop();
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), sameInstance(outer));
+
+    outer.stop();
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), nullValue());
+  }
+
+  @Test
+  void shouldNotRestoreWhenNotCurrent() {
+    FeatureDenialRecorder outer = FeatureDenialRecorder.start();
+    FeatureDenialRecorder inner = FeatureDenialRecorder.start();
+
+    outer.stop();
+
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), sameInstance(inner));
+  }
+
+  @Test
+  void shouldRemoveRecorderWhenTaken() {
+    FeatureDenialRecorder recorder = FeatureDenialRecorder.start();
+
+    FeatureDenialRecorder taken = FeatureDenialRecorder.take();
+
+    assertThat("Unexpected taken recorder.", taken, sameInstance(recorder));
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), nullValue());
+  }
+
+  @Test
+  void shouldRestorePreviousRecorderWhenTaken() {
+    FeatureDenialRecorder outer = FeatureDenialRecorder.start();
+    FeatureDenialRecorder.start();
+
+    FeatureDenialRecorder.take();
+
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), sameInstance(outer));
+  }
+
+  @Test
+  void shouldTakeNothingWhenNoRecorderStarted() {
+    assertThat("Unexpected taken recorder.", FeatureDenialRecorder.take(), nullValue());
+  }
+}
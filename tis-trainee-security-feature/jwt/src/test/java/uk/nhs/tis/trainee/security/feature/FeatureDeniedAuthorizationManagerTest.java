@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationEventPublisher;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+class FeatureDeniedAuthorizationManagerTest {
+
+  private static final String FEATURE_1 = "feature1";
+
+  private FeatureDeniedAuthorizationManager manager;
+
+  @BeforeEach
+  void setUp() {
+    PreAuthorizeAuthorizationManager delegate = new PreAuthorizeAuthorizationManager();
+    delegate.setExpressionHandler(new FeatureMethodSecurityExpressionHandler(new FeatureChecker()));
+    manager = new FeatureDeniedAuthorizationManager(delegate);
+  }
+
+  @Test
+  void shouldGrantWhenFeatureEnabled() throws NoSuchMethodException {
+    Authentication authentication = createAuthentication(true);
+
+    AuthorizationDecision decision = manager.check(() -> authentication,
+        createInvocation("hasFeature1"));
+
+    assertThat("Unexpected decision.", decision.isGranted(), is(true));
+  }
+
+  @Test
+  void shouldThrowFeatureDeniedWhenFeatureDisabled() throws NoSuchMethodException {
+    Authentication authentication = createAuthentication(false);
+    MethodInvocation invocation = createInvocation("hasFeature1");
+
+    FeatureDeniedException exception = assertThrows(FeatureDeniedException.class,
+        () -> manager.check(() -> authentication, invocation));
+
+    assertThat("Unexpected feature path.", exception.getFeaturePath(), is(FEATURE_1));
+  }
+
+  @Test
+  void shouldGrantNegatedFeatureWhenFeatureDisabled() throws NoSuchMethodException {
+    Authentication authentication = createAuthentication(false);
+
+    AuthorizationDecision decision = manager.check(() -> authentication,
+        createInvocation("notHasFeature1"));
+
+    assertThat("Unexpected decision.", decision.isGranted(), is(true));
+  }
+
+  @Test
+  void shouldDenyWithoutFeatureDeniedWhenNegatedFeatureEnabled() throws NoSuchMethodException {
+    Authentication authentication = createAuthentication(true);
+
+    AuthorizationDecision decision = manager.check(() -> authentication,
+        createInvocation("notHasFeature1"));
+
+    assertThat("Unexpected decision.", decision.isGranted(), is(false));
+  }
+
+  @Test
+  void shouldGrantAlternativeWhenFeatureDisabled() throws NoSuchMethodException {
+    Authentication authentication = createAuthentication(false, "ROLE_ADMIN");
+
+    AuthorizationDecision decision = manager.check(() -> authentication,
+        createInvocation("hasFeature1OrAdmin"));
+
+    assertThat("Unexpected decision.", decision.isGranted(), is(true));
+  }
+
+  @Test
+  void shouldDenyWithoutFeatureDeniedWhenAnonymous() throws NoSuchMethodException {
+    Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymousUser",
+        AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    AuthorizationDecision decision = manager.check(() -> anonymous,
+        createInvocation("hasFeature1"));
+
+    assertThat("Unexpected decision.", decision.isGranted(), is(false));
+  }
+
+  @Test
+  void shouldPublishDenialBeforeThrowingFeatureDenied() throws NoSuchMethodException {
+    AuthorizationEventPublisher publisher = mock(AuthorizationEventPublisher.class);
+    manager.setAuthorizationEventPublisher(publisher);
+
+    Authentication authentication = createAuthentication(false);
+    Supplier<Authentication> supplier = () -> authentication;
+    MethodInvocation invocation = createInvocation("hasFeature1");
+
+    assertThrows(FeatureDeniedException.class, () -> manager.check(supplier, invocation));
+
+    ArgumentCaptor<AuthorizationDecision> decision = ArgumentCaptor.forClass(
+        AuthorizationDecision.class);
+    verify(publisher).publishAuthorizationEvent(eq(supplier), eq(invocation), decision.capture());
+    assertThat("Unexpected published decision.", decision.getValue().isGranted(), is(false));
+  }
+
+  @Test
+  void shouldNotPublishWhenGranted() throws NoSuchMethodException {
+    AuthorizationEventPublisher publisher = mock(AuthorizationEventPublisher.class);
+    manager.setAuthorizationEventPublisher(publisher);
+
+    Authentication authentication = createAuthentication(true);
+    manager.check(() -> authentication, createInvocation("hasFeature1"));
+
+    verifyNoInteractions(publisher);
+  }
+
+  @Test
+  void shouldStopRecorderAfterCheck() throws NoSuchMethodException {
+    Authentication authentication = createAuthentication(true);
+
+    manager.check(() -> authentication, createInvocation("hasFeature1"));
+
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), nullValue());
+  }
+
+  /**
+   * Create an authentication with the given feature1 value.
+   *
+   * @param feature1Enabled Whether feature1 is enabled.
+   * @param authorities     The authorities to grant.
+   * @return The created authentication.
+   */
+  private Authentication createAuthentication(boolean feature1Enabled, String... authorities) {
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim("features", Map.of(FEATURE_1, Map.of("enabled", feature1Enabled)))
+        .build();
+    return new JwtAuthenticationToken(jwt, AuthorityUtils.createAuthorityList(authorities));
+  }
+
+  /**
+   * Create an invocation of a {@link SecuredService} method.
+   *
+   * @param methodName The name of the method.
+   * @return The created invocation.
+   * @throws NoSuchMethodException If the method does not exist.
+   */
+  private MethodInvocation createInvocation(String methodName) throws NoSuchMethodException {
+    return new SimpleMethodInvocation(new SecuredService(),
+        SecuredService.class.getMethod(methodName));
+  }
+
+  /**
+   * A service with feature protected methods.
+   */
+  static class SecuredService {
+
+    @PreAuthorize("hasFeature('feature1')")
+    public void hasFeature1() {
+    }
+
+    @PreAuthorize("!hasFeature('feature1')")
+    public void notHasFeature1() {
+    }
+
+    @PreAuthorize("hasFeature('feature1') or hasRole('ADMIN')")
+    public void hasFeature1OrAdmin() {
+    }
+  }
+}
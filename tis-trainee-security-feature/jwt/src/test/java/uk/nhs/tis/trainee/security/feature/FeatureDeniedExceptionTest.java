@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class FeatureDeniedExceptionTest {
+
+  @Test
+  void shouldIncludeFeaturePath() {
+    FeatureDeniedException exception = FeatureDeniedException.forFeature("feature1.feature2");
+
+    assertThat("Unexpected feature path.", exception.getFeaturePath(), is("feature1.feature2"));
+    assertThat("Unexpected message.", exception.getMessage(),
+        is("Feature not enabled: feature1.feature2"));
+  }
+
+  @Test
+  void shouldCreateNewExceptionForEachDenial() {
+    FeatureDeniedException exception1 = FeatureDeniedException.forFeature("feature1");
+    FeatureDeniedException exception2 = FeatureDeniedException.forFeature("feature1");
+
+    assertThat("Unexpected exception instance.", exception2, not(sameInstance(exception1)));
+  }
+
+  @Test
+  void shouldNotShareSuppressedOrCauseBetweenDenials() {
+    FeatureDeniedException exception1 = FeatureDeniedException.forFeature("feature1");
+    exception1.initCause(new IllegalStateException());
+    exception1.addSuppressed(new IllegalStateException());
+
+    FeatureDeniedException exception2 = FeatureDeniedException.forFeature("feature1");
+
+    assertThat("Unexpected cause.", exception2.getCause(), nullValue());
+    assertThat("Unexpected suppressed.", exception2.getSuppressed(), emptyArray());
+  }
+
+  @Test
+  void shouldNotHaveStackTrace() {
+    FeatureDeniedException exception = FeatureDeniedException.forFeature("feature1");
+
+    assertThat("Unexpected stack trace.", exception.getStackTrace(), emptyArray());
+  }
+
+  @Test
+  void shouldShareResponseBodyBetweenDenials() {
+    FeatureDeniedException exception1 = FeatureDeniedException.forFeature("feature1");
+    FeatureDeniedException exception2 = FeatureDeniedException.forFeature("feature1");
+
+    assertThat("Unexpected response body instance.", exception2.getResponseBody(),
+        sameInstance(exception1.getResponseBody()));
+  }
+
+  @Test
+  void shouldIncludeEscapedFeaturePathInResponseBody() {
+    FeatureDeniedException exception = FeatureDeniedException.forFeature("feature\"1\\");
+
+    String body = new String(exception.getResponseBody(), StandardCharsets.UTF_8);
+    assertThat("Unexpected response body.", body, is("{\"feature\":\"feature\\\"1\\\\\"}"));
+  }
+}
@@ -24,6 +24,7 @@ package uk.nhs.tis.trainee.security.feature;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -75,4 +76,63 @@ class FeatureSecurityExpressionRootTest {
 
     verify(featureChecker).hasFeature(authentication, "");
   }
+
+  @Test
+  void shouldRecordDisabledFeatureWhenRecorderStarted() {
+    when(featureChecker.hasFeature(any(), any())).thenReturn(false);
+    FeatureDenialRecorder recorder = FeatureDenialRecorder.start();
+
+    try {
+      root = new FeatureSecurityExpressionRoot(() -> authentication, featureChecker);
+      root.hasFeature("feature1.feature2");
+    } finally {
+      recorder.stop();
+    }
+
+    assertThat("Unexpected feature path.", recorder.getFeaturePath(), is("feature1.feature2"));
+  }
+
+  @Test
+  void shouldNotRecordEnabledFeatureWhenRecorderStarted() {
+    when(featureChecker.hasFeature(any(), any())).thenReturn(true);
+    FeatureDenialRecorder recorder = FeatureDenialRecorder.start();
+
+    try {
+      root = new FeatureSecurityExpressionRoot(() -> authentication, featureChecker);
+      root.hasFeature("feature1.feature2");
+    } finally {
+      recorder.stop();
+    }
+
+    assertThat("Unexpected feature path.", recorder.getFeaturePath(), nullValue());
+  }
+
+  @Test
+  void shouldNotRecordWhenRecorderStartedAfterRootCreated() {
+    when(featureChecker.hasFeature(any(), any())).thenReturn(false);
+    FeatureDenialRecorder recorder = FeatureDenialRecorder.start();
+
+    try {
+      root.hasFeature("feature1.feature2");
+    } finally {
+      recorder.stop();
+    }
+
+    assertThat("Unexpected feature path.", recorder.getFeaturePath(), nullValue());
+  }
+
+  @Test
+  void shouldTakeRecorderFromThreadWhenCreated() {
+    FeatureDenialRecorder recorder = FeatureDenialRecorder.start();
+    FeatureDenialRecorder current;
+
+    try {
+      root = new FeatureSecurityExpressionRoot(() -> authentication, featureChecker);
+      current = FeatureDenialRecorder.current();
+    } finally {
+      recorder.stop();
+    }
+
+    assertThat("Unexpected recorder.", current, nullValue());
+  }
 }
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class JwtFeatureBatchEvaluatorTest {
+
+  private static final String PARENT_FEATURE = "feature1";
+  private static final String CHILD_FEATURE = "feature2";
+  private static final String NESTED_FEATURE = PARENT_FEATURE + "." + CHILD_FEATURE;
+
+  private static final String FEATURES_CLAIM = "features";
+
+  private ForkJoinPool pool;
+  private JwtFeatureBatchEvaluator evaluator;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(2);
+    evaluator = new JwtFeatureBatchEvaluator(new FeatureBatchEvaluator(pool, 1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  void shouldEvaluateTokens() {
+    List<Jwt> tokens = List.of(
+        createToken(Map.of(FEATURES_CLAIM, TestFeatures.create(true, true))),
+        createToken(Map.of("not-features", "")),
+        createToken(Map.of(FEATURES_CLAIM, TestFeatures.create(true, false)))
+    );
+
+    FeatureMatrix matrix = evaluator.evaluateTokens(tokens, List.of(NESTED_FEATURE));
+
+    BitSet expected = new BitSet();
+    expected.set(0);
+    assertThat("Unexpected row count.", matrix.getRowCount(), is(3));
+    assertThat("Unexpected enabled rows.", matrix.getEnabledRows(NESTED_FEATURE), is(expected));
+  }
+
+  @Test
+  void shouldEvaluateTokenStreamInEncounterOrder() {
+    Stream<Jwt> tokens = Stream.of(
+        createToken(Map.of(FEATURES_CLAIM, TestFeatures.create(false, false))),
+        createToken(Map.of(FEATURES_CLAIM, TestFeatures.create(true, false)))
+    ).parallel();
+
+    FeatureMatrix matrix = evaluator.evaluateTokens(tokens, List.of(PARENT_FEATURE));
+
+    BitSet expected = new BitSet();
+    expected.set(1);
+    assertThat("Unexpected enabled rows.", matrix.getEnabledRows(PARENT_FEATURE), is(expected));
+  }
+
+  /**
+   * Create a JWT with the given claims.
+   *
+   * @param claims The claims to include.
+   * @return The created JWT.
+   */
+  private Jwt createToken(Map<String, Object> claims) {
+    return Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claims(c -> c.putAll(claims))
+        .build();
+  }
+}
@@ -0,0 +1,23 @@
+dependencies {
+  api(project(":jwt"))
+
+  // Spring WebFlux integration, provided by the consuming service.
+  compileOnly("io.projectreactor:reactor-core")
+  compileOnly("org.springframework:spring-web")
+  compileOnly("org.springframework.security:spring-security-web")
+}
+
+testing {
+  suites {
+    val test by getting(JvmTestSuite::class) {
+      dependencies {
+        implementation("io.projectreactor:reactor-core")
+        implementation("org.hamcrest:hamcrest")
+        implementation("org.mockito:mockito-core")
+        implementation("org.springframework:spring-test")
+        implementation("org.springframework:spring-web")
+        implementation("org.springframework.security:spring-security-web")
+      }
+    }
+  }
+}
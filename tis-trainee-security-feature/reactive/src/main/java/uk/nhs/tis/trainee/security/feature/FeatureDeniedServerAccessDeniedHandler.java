@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.HttpStatusServerAccessDeniedHandler;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * A WebFlux {@link ServerAccessDeniedHandler} which maps a {@link FeatureDeniedException} to a
+ * minimal 403 response, other denials are passed to a delegate handler.
+ *
+ * <p>The exception is signalled by method security using a
+ * {@link ReactiveFeatureDeniedAuthorizationManager}.</p>
+ *
+ * <p>The response body is a small JSON object containing the missing feature path e.g.
+ * {@code {"feature":"parentFeature.childFeature"}}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * http.exceptionHandling(exceptions -&gt; exceptions
+ *     .accessDeniedHandler(new FeatureDeniedServerAccessDeniedHandler()));
+ * </pre>
+ */
+public class FeatureDeniedServerAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+  private final ServerAccessDeniedHandler delegate;
+
+  /**
+   * Create a handler which returns a 403 response with no body for other denials.
+   */
+  public FeatureDeniedServerAccessDeniedHandler() {
+    this(new HttpStatusServerAccessDeniedHandler(HttpStatus.FORBIDDEN));
+  }
+
+  /**
+   * Create a handler which passes other denials to the given handler.
+   *
+   * @param delegate The handler for denials other than {@link FeatureDeniedException}.
+   */
+  public FeatureDeniedServerAccessDeniedHandler(ServerAccessDeniedHandler delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException denied) {
+    if (!(denied instanceof FeatureDeniedException featureDenied)) {
+      return delegate.handle(exchange, denied);
+    }
+
+    return Mono.defer(() -> {
+      ServerHttpResponse response = exchange.getResponse();
+      response.setStatusCode(HttpStatus.FORBIDDEN);
+      response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+      DataBuffer body = response.bufferFactory().wrap(featureDenied.getResponseBody());
+      return response.writeWith(Mono.just(body));
+    });
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+
+/**
+ * Component that evaluates the current user's features from the reactive security context.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * Mono&lt;Boolean&gt; allowed = reactiveFeatureChecker.hasFeature("parentFeature.childFeature");
+ * </pre>
+ *
+ * <p>Method security in reactive applications uses the same
+ * {@link FeatureMethodSecurityExpressionHandler} as servlet applications, this component is only
+ * required for programmatic checks.</p>
+ */
+public class ReactiveFeatureChecker {
+
+  private final FeatureChecker featureChecker;
+
+  /**
+   * Create a reactive feature checker.
+   *
+   * @param featureChecker The {@link FeatureChecker} to be used.
+   */
+  public ReactiveFeatureChecker(FeatureChecker featureChecker) {
+    this.featureChecker = featureChecker;
+  }
+
+  /**
+   * Determines whether the given feature is enabled for the current user.
+   *
+   * @param featurePath Dot-delimited path to the feature in the JWT claims e.g.
+   *                    "parentFeature.childFeature".
+   * @return true if the feature is enabled, or false if not found, disabled or not authenticated.
+   */
+  public Mono<Boolean> hasFeature(String featurePath) {
+    return ReactiveSecurityContextHolder.getContext()
+        .mapNotNull(SecurityContext::getAuthentication)
+        .map(authentication -> featureChecker.hasFeature(authentication, featurePath))
+        .defaultIfEmpty(false);
+  }
+
+  /**
+   * Resolve an immutable view of the current user's features, which can be used without the
+   * reactive context.
+   *
+   * @return The resolved features, or an empty view if there are no features.
+   */
+  public Mono<FeatureView> resolveFeatures() {
+    return ReactiveSecurityContextHolder.getContext()
+        .mapNotNull(SecurityContext::getAuthentication)
+        .map(featureChecker::resolveFeatures)
+        .defaultIfEmpty(FeatureView.EMPTY);
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.reactivestreams.Subscription;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+/**
+ * A {@link ReactiveAuthorizationManager} which signals a lightweight
+ * {@link FeatureDeniedException} when access is denied because of a disabled feature.
+ *
+ * <p>The reactive equivalent of the {@link FeatureDeniedAuthorizationManager}, the wrapped manager,
+ * typically a {@code PreAuthorizeReactiveAuthorizationManager} using the
+ * {@link FeatureMethodSecurityExpressionHandler}, makes the decision as normal. Only once the whole
+ * expression has denied access, and a {@code hasFeature} check returned false while evaluating it,
+ * is the exception signalled.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * return AuthorizationManagerBeforeReactiveMethodInterceptor.preAuthorize(
+ *     new ReactiveFeatureDeniedAuthorizationManager(
+ *         new PreAuthorizeReactiveAuthorizationManager(handler)));
+ * </pre>
+ */
+public class ReactiveFeatureDeniedAuthorizationManager implements
+    ReactiveAuthorizationManager<MethodInvocation> {
+
+  private static final AuthenticationTrustResolver TRUST_RESOLVER =
+      new AuthenticationTrustResolverImpl();
+
+  private final ReactiveAuthorizationManager<MethodInvocation> delegate;
+
+  /**
+   * Create a reactive feature denied authorization manager.
+   *
+   * @param delegate The manager which makes the authorization decision.
+   */
+  public ReactiveFeatureDeniedAuthorizationManager(
+      ReactiveAuthorizationManager<MethodInvocation> delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Signals a {@link FeatureDeniedException} if access is denied to an authenticated user and a
+   * feature was found to be disabled.</p>
+   */
+  @Override
+  public Mono<AuthorizationDecision> check(Mono<Authentication> authentication,
+      MethodInvocation invocation) {
+    return Mono.defer(() -> {
+      Recording recording = new Recording();
+      Mono<Authentication> recorded = authentication.transform(
+          Operators.<Authentication, Authentication>lift(
+              (scannable, subscriber) -> new RecordingSubscriber(subscriber, recording)));
+
+      return delegate.check(recorded, invocation)
+          .flatMap(recording::complete);
+    });
+  }
+
+  /**
+   * The state of a single authorization decision.
+   */
+  private static final class Recording {
+
+    private Authentication authentication;
+    private FeatureDenialRecorder recorder;
+
+    /**
+     * Complete the decision, signalling a {@link FeatureDeniedException} if applicable.
+     *
+     * @param decision The decision made by the delegate.
+     * @return The decision, or an error if access was denied because of a disabled feature.
+     */
+    Mono<AuthorizationDecision> complete(AuthorizationDecision decision) {
+      String featurePath = recorder == null ? null : recorder.getFeaturePath();
+
+      // Anonymous users are left to the standard denial, so they are challenged to authenticate.
+      if (!decision.isGranted() && featurePath != null && !TRUST_RESOLVER.isAnonymous(
+          authentication)) {
+        return Mono.error(FeatureDeniedException.forFeature(featurePath));
+      }
+
+      return Mono.just(decision);
+    }
+  }
+
+  /**
+   * A subscriber which makes a recorder current while the authentication is emitted downstream.
+   *
+   * <p>The delegate creates its expression root as the authentication is emitted, which takes the
+   * recorder. The recorder is always stopped on the emitting thread, so it is never left on a
+   * thread even when the decision completes elsewhere.</p>
+   */
+  private static final class RecordingSubscriber implements CoreSubscriber<Authentication> {
+
+    private final CoreSubscriber<? super Authentication> actual;
+    private final Recording recording;
+
+    /**
+     * Create a recording subscriber.
+     *
+     * @param actual    The downstream subscriber.
+     * @param recording The recording to update.
+     */
+    RecordingSubscriber(CoreSubscriber<? super Authentication> actual, Recording recording) {
+      this.actual = actual;
+      this.recording = recording;
+    }
+
+    @Override
+    public Context currentContext() {
+      return actual.currentContext();
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      actual.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(Authentication authentication) {
+      FeatureDenialRecorder recorder = FeatureDenialRecorder.start();
+      recording.authentication = authentication;
+      recording.recorder = recorder;
+
+      try {
+        actual.onNext(authentication);
+      } finally {
+        recorder.stop();
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      actual.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      actual.onComplete();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import reactor.core.publisher.Mono;
+
+class FeatureDeniedServerAccessDeniedHandlerTest {
+
+  private FeatureDeniedServerAccessDeniedHandler handler;
+  private ServerAccessDeniedHandler delegate;
+
+  private MockServerWebExchange exchange;
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(ServerAccessDeniedHandler.class);
+    handler = new FeatureDeniedServerAccessDeniedHandler(delegate);
+    exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/protected"));
+  }
+
+  @Test
+  void shouldDelegateOtherDenials() {
+    AccessDeniedException denied = new AccessDeniedException("Access Denied");
+    when(delegate.handle(exchange, denied)).thenReturn(Mono.empty());
+
+    handler.handle(exchange, denied).block();
+
+    verify(delegate).handle(exchange, denied);
+  }
+
+  @Test
+  void shouldWriteForbiddenResponseWithFeaturePath() {
+    handler.handle(exchange, FeatureDeniedException.forFeature("feature1.feature2")).block();
+
+    assertThat("Unexpected status.", exchange.getResponse().getStatusCode().value(),
+        is(HttpStatus.FORBIDDEN.value()));
+    assertThat("Unexpected content type.",
+        exchange.getResponse().getHeaders().getContentType(), is(MediaType.APPLICATION_JSON));
+    assertThat("Unexpected body.", exchange.getResponse().getBodyAsString().block(),
+        is("{\"feature\":\"feature1.feature2\"}"));
+  }
+
+  @Test
+  void shouldWriteForbiddenResponseWithNoBodyByDefault() {
+    handler = new FeatureDeniedServerAccessDeniedHandler();
+
+    handler.handle(exchange, new AccessDeniedException("Access Denied")).block();
+
+    assertThat("Unexpected status.", exchange.getResponse().getStatusCode().value(),
+        is(HttpStatus.FORBIDDEN.value()));
+  }
+}
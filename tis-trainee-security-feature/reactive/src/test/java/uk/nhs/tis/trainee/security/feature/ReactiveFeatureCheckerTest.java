@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+
+class ReactiveFeatureCheckerTest {
+
+  private static final String PARENT_FEATURE = "feature1";
+
+  private ReactiveFeatureChecker checker;
+
+  @BeforeEach
+  void setUp() {
+    checker = new ReactiveFeatureChecker(new FeatureChecker());
+  }
+
+  @Test
+  void shouldReturnFalseWhenNoSecurityContext() {
+    Boolean hasFeature = checker.hasFeature(PARENT_FEATURE).block();
+
+    assertThat("Unexpected result.", hasFeature, is(false));
+  }
+
+  @Test
+  void shouldReturnFalseWhenNoAuthenticationInSecurityContext() {
+    Boolean hasFeature = checker.hasFeature(PARENT_FEATURE)
+        .contextWrite(ReactiveSecurityContextHolder.withSecurityContext(
+            Mono.just(new SecurityContextImpl())))
+        .block();
+
+    assertThat("Unexpected result.", hasFeature, is(false));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldReturnFeatureEnabledValueFromSecurityContext(boolean enabled) {
+    Authentication authentication = createAuthentication(enabled);
+
+    Boolean hasFeature = checker.hasFeature(PARENT_FEATURE)
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+        .block();
+
+    assertThat("Unexpected result.", hasFeature, is(enabled));
+  }
+
+  @Test
+  void shouldResolveEmptyViewWhenNoSecurityContext() {
+    FeatureView view = checker.resolveFeatures().block();
+
+    assertThat("Unexpected view.", view, sameInstance(FeatureView.EMPTY));
+  }
+
+  @Test
+  void shouldResolveEmptyViewWhenNoAuthenticationInSecurityContext() {
+    FeatureView view = checker.resolveFeatures()
+        .contextWrite(ReactiveSecurityContextHolder.withSecurityContext(
+            Mono.just(new SecurityContextImpl())))
+        .block();
+
+    assertThat("Unexpected view.", view, sameInstance(FeatureView.EMPTY));
+  }
+
+  @Test
+  void shouldResolveViewFromSecurityContext() {
+    Authentication authentication = createAuthentication(true);
+
+    FeatureView view = checker.resolveFeatures()
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+        .block();
+
+    assertThat("Unexpected features.", view.getFeatures(),
+        is(Map.of(PARENT_FEATURE, Map.of("enabled", true))));
+  }
+
+  /**
+   * Create a JWT authentication with the parent feature.
+   *
+   * @param enabled Whether the parent feature should be enabled.
+   * @return The created authentication.
+   */
+  private Authentication createAuthentication(boolean enabled) {
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim("features", Map.of(PARENT_FEATURE, Map.of("enabled", enabled)))
+        .build();
+    return new JwtAuthenticationToken(jwt);
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeReactiveMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+class ReactiveFeatureDeniedAuthorizationManagerTest {
+
+  private static final String FEATURE_1 = "feature1";
+  private static final String RESULT = "result";
+
+  private final PreAuthorizeReactiveAuthorizationManager preAuthorize =
+      new PreAuthorizeReactiveAuthorizationManager(
+          new FeatureMethodSecurityExpressionHandler(new FeatureChecker()));
+
+  @Test
+  void shouldGrantHasFeatureWhenFeatureEnabledWithoutWrapper() {
+    SecuredService service = createService(preAuthorize);
+
+    String result = service.hasFeature1()
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(createAuthentication(true)))
+        .block();
+
+    assertThat("Unexpected result.", result, is(RESULT));
+  }
+
+  @Test
+  void shouldDenyHasFeatureWhenFeatureDisabledWithoutWrapper() {
+    SecuredService service = createService(preAuthorize);
+    Mono<String> result = service.hasFeature1()
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(createAuthentication(false)));
+
+    AccessDeniedException exception = assertThrows(AccessDeniedException.class, result::block);
+
+    assertThat("Unexpected exception type.", exception instanceof FeatureDeniedException,
+        is(false));
+  }
+
+  @Test
+  void shouldGrantWhenFeatureEnabled() {
+    SecuredService service = createService(
+        new ReactiveFeatureDeniedAuthorizationManager(preAuthorize));
+
+    String result = service.hasFeature1()
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(createAuthentication(true)))
+        .block();
+
+    assertThat("Unexpected result.", result, is(RESULT));
+  }
+
+  @Test
+  void shouldSignalFeatureDeniedWhenFeatureDisabled() {
+    SecuredService service = createService(
+        new ReactiveFeatureDeniedAuthorizationManager(preAuthorize));
+    Mono<String> result = service.hasFeature1()
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(createAuthentication(false)));
+
+    FeatureDeniedException exception = assertThrows(FeatureDeniedException.class, result::block);
+
+    assertThat("Unexpected feature path.", exception.getFeaturePath(), is(FEATURE_1));
+  }
+
+  @Test
+  void shouldGrantNegatedFeatureWhenFeatureDisabled() {
+    SecuredService service = createService(
+        new ReactiveFeatureDeniedAuthorizationManager(preAuthorize));
+
+    String result = service.notHasFeature1()
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(createAuthentication(false)))
+        .block();
+
+    assertThat("Unexpected result.", result, is(RESULT));
+  }
+
+  @Test
+  void shouldGrantAlternativeWhenFeatureDisabled() {
+    SecuredService service = createService(
+        new ReactiveFeatureDeniedAuthorizationManager(preAuthorize));
+
+    String result = service.hasFeature1OrAdmin()
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+            createAuthentication(false, "ROLE_ADMIN")))
+        .block();
+
+    assertThat("Unexpected result.", result, is(RESULT));
+  }
+
+  @Test
+  void shouldDenyWithoutFeatureDeniedWhenAnonymous() {
+    SecuredService service = createService(
+        new ReactiveFeatureDeniedAuthorizationManager(preAuthorize));
+    Mono<String> result = service.hasFeature1();
+
+    AccessDeniedException exception = assertThrows(AccessDeniedException.class, result::block);
+
+    assertThat("Unexpected exception type.", exception instanceof FeatureDeniedException,
+        is(false));
+  }
+
+  @Test
+  void shouldStopRecorderAfterCheck() {
+    SecuredService service = createService(
+        new ReactiveFeatureDeniedAuthorizationManager(preAuthorize));
+    Mono<String> result = service.hasFeature1()
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(createAuthentication(false)));
+
+    assertThrows(FeatureDeniedException.class, result::block);
+
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), nullValue());
+  }
+
+  @Test
+  void shouldNotLeaveRecorderWhenDecisionPublishedOnAnotherThread() {
+    ReactiveAuthorizationManager<MethodInvocation> asyncDecision = (authentication, invocation) ->
+        preAuthorize.check(authentication, invocation).publishOn(Schedulers.boundedElastic());
+    SecuredService service = createService(
+        new ReactiveFeatureDeniedAuthorizationManager(asyncDecision));
+    Mono<String> result = service.hasFeature1()
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(createAuthentication(false)));
+
+    FeatureDeniedException exception = assertThrows(FeatureDeniedException.class, result::block);
+
+    assertThat("Unexpected feature path.", exception.getFeaturePath(), is(FEATURE_1));
+    assertThat("Unexpected recorder.", FeatureDenialRecorder.current(), nullValue());
+  }
+
+  /**
+   * Create a JWT authentication with the given feature1 value.
+   *
+   * @param feature1Enabled Whether feature1 is enabled.
+   * @param authorities     The authorities to grant.
+   * @return The created authentication.
+   */
+  private Authentication createAuthentication(boolean feature1Enabled, String... authorities) {
+    Jwt jwt = Jwt.withTokenValue("mock-token")
+        .header("alg", "none")
+        .claim("features", Map.of(FEATURE_1, Map.of("enabled", feature1Enabled)))
+        .build();
+    return new JwtAuthenticationToken(jwt, AuthorityUtils.createAuthorityList(authorities));
+  }
+
+  /**
+   * Create a {@link SecuredService} proxy protected by reactive method security.
+   *
+   * @param manager The manager making the pre-authorize decisions.
+   * @return The created proxy.
+   */
+  private SecuredService createService(ReactiveAuthorizationManager<MethodInvocation> manager) {
+    ProxyFactory factory = new ProxyFactory(new SecuredService());
+    factory.addAdvisor(AuthorizationManagerBeforeReactiveMethodInterceptor.preAuthorize(manager));
+    return (SecuredService) factory.getProxy();
+  }
+
+  /**
+   * A service with feature protected methods.
+   */
+  static class SecuredService {
+
+    @PreAuthorize("hasFeature('feature1')")
+    public Mono<String> hasFeature1() {
+      return Mono.just(RESULT);
+    }
+
+    @PreAuthorize("!hasFeature('feature1')")
+    public Mono<String> notHasFeature1() {
+      return Mono.just(RESULT);
+    }
+
+    @PreAuthorize("hasFeature('feature1') or hasRole('ADMIN')")
+    public Mono<String> hasFeature1OrAdmin() {
+      return Mono.just(RESULT);
+    }
+  }
+}
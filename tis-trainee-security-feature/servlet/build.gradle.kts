@@ -0,0 +1,52 @@
+dependencies {
+  api(project(":jwt"))
+
+  // Spring MVC integration, provided by the consuming service.
+  compileOnly("jakarta.servlet:jakarta.servlet-api")
+  compileOnly("org.springframework:spring-webmvc")
+}
+
+testing {
+  suites {
+    val test by getting(JvmTestSuite::class) {
+      dependencies {
+        implementation("jakarta.servlet:jakarta.servlet-api")
+        implementation("org.hamcrest:hamcrest")
+        implementation("org.mockito:mockito-core")
+        implementation("org.springframework:spring-test")
+        implementation("org.springframework:spring-webmvc")
+      }
+    }
+
+    register<JvmTestSuite>("integrationTest") {
+      dependencies {
+        implementation("org.springframework.boot:spring-boot-starter-test")
+        implementation("org.springframework.boot:spring-boot-starter-web")
+        implementation("org.springframework.security:spring-security-config")
+        implementation("org.springframework.security:spring-security-test")
+      }
+
+      // Include implementation dependencies.
+      val integrationTestImplementation by configurations.getting {
+        extendsFrom(configurations.implementation.get())
+      }
+    }
+
+    // A Spring MVC application with the full library, the dependency set of security-feature:0.0.1.
+    register<JvmTestSuite>("startup") {
+      dependencies {
+        implementation("org.springframework.boot:spring-boot-starter-web")
+        implementation("org.springframework.security:spring-security-config")
+      }
+
+      // Include implementation dependencies.
+      val startupImplementation by configurations.getting {
+        extendsFrom(configurations.implementation.get())
+      }
+    }
+  }
+}
+
+tasks.named("check") {
+  dependsOn(testing.suites.named("integrationTest"))
+}
@@ -67,4 +67,28 @@ class FeatureTestController {
   ResponseEntity<Void> protectedNestedFeatures() {
     return ResponseEntity.ok(null);
   }
+
+  /**
+   * An endpoint for testing a "protected" endpoint with a negated feature flag. The authenticated
+   * user must not have the "feature1" flag enabled.
+   *
+   * @return 200 if successfully called.
+   */
+  @GetMapping("/protected/not-feature1")
+  @PreAuthorize("!hasFeature('feature1')")
+  ResponseEntity<Void> protectedNotFeature1() {
+    return ResponseEntity.ok(null);
+  }
+
+  /**
+   * An endpoint for testing a "protected" endpoint with an alternative to the feature flag. The
+   * authenticated user must have the "feature1" flag enabled or the "ADMIN" role.
+   *
+   * @return 200 if successfully called.
+   */
+  @GetMapping("/protected/feature1-or-admin")
+  @PreAuthorize("hasFeature('feature1') or hasRole('ADMIN')")
+  ResponseEntity<Void> protectedFeature1OrAdmin() {
+    return ResponseEntity.ok(null);
+  }
 }
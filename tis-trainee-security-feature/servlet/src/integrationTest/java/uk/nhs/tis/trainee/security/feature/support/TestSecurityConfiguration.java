@@ -22,18 +22,27 @@
 
 package uk.nhs.tis.trainee.security.feature.support;
 
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import uk.nhs.tis.trainee.security.feature.FeatureChecker;
+import uk.nhs.tis.trainee.security.feature.FeatureDeniedAuthorizationManager;
+import uk.nhs.tis.trainee.security.feature.FeatureDeniedException;
+import uk.nhs.tis.trainee.security.feature.FeatureDeniedExceptionResolver;
 import uk.nhs.tis.trainee.security.feature.FeatureMethodSecurityExpressionHandler;
 
 /**
  * Configuration for integration testing, reflects how a service would config the library.
  */
 @Configuration
-@EnableMethodSecurity
+@EnableMethodSecurity(prePostEnabled = false)
 public class TestSecurityConfiguration {
 
   /**
@@ -56,4 +65,36 @@ public class TestSecurityConfiguration {
       FeatureChecker featureChecker) {
     return new FeatureMethodSecurityExpressionHandler(featureChecker);
   }
+
+  /**
+   * Create the {@code @PreAuthorize} method interceptor, replacing the one disabled on
+   * {@link EnableMethodSecurity}.
+   *
+   * @param handler            The expression handler to evaluate expressions with.
+   * @param throwFeatureDenied Whether to throw a {@link FeatureDeniedException} on denial.
+   * @return The created interceptor.
+   */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public Advisor preAuthorizeAuthorizationMethodInterceptor(
+      MethodSecurityExpressionHandler handler,
+      @Value("${feature.throw-feature-denied:false}") boolean throwFeatureDenied) {
+    PreAuthorizeAuthorizationManager manager = new PreAuthorizeAuthorizationManager();
+    manager.setExpressionHandler(handler);
+
+    return throwFeatureDenied
+        ? AuthorizationManagerBeforeMethodInterceptor.preAuthorize(
+            new FeatureDeniedAuthorizationManager(manager))
+        : AuthorizationManagerBeforeMethodInterceptor.preAuthorize(manager);
+  }
+
+  /**
+   * Create a bean of type {@link FeatureDeniedExceptionResolver}.
+   *
+   * @return The created {@code FeatureDeniedExceptionResolver}.
+   */
+  @Bean
+  public FeatureDeniedExceptionResolver featureDeniedExceptionResolver() {
+    return new FeatureDeniedExceptionResolver();
+  }
 }
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * A Spring MVC {@link HandlerExceptionResolver} which maps a {@link FeatureDeniedException} to a
+ * minimal 403 response, without further exception wrapping or an error page dispatch.
+ *
+ * <p>The response body is a small JSON object containing the missing feature path e.g.
+ * {@code {"feature":"parentFeature.childFeature"}}.</p>
+ */
+public class FeatureDeniedExceptionResolver implements HandlerExceptionResolver, Ordered {
+
+  private static final String CONTENT_TYPE = "application/json";
+
+  @Override
+  public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    if (!(ex instanceof FeatureDeniedException denied) || response.isCommitted()) {
+      return null;
+    }
+
+    byte[] body = denied.getResponseBody();
+    response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+    response.setContentType(CONTENT_TYPE);
+    response.setContentLength(body.length);
+
+    try {
+      response.getOutputStream().write(body);
+    } catch (IOException e) {
+      // The status is already set, so the response is still resolved, e.g. the client disconnected.
+      return new ModelAndView();
+    }
+
+    return new ModelAndView();
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import uk.nhs.tis.trainee.security.feature.FeatureChecker;
+import uk.nhs.tis.trainee.security.feature.FeatureDeniedExceptionResolver;
+import uk.nhs.tis.trainee.security.feature.FeatureMethodSecurityExpressionHandler;
+
+/**
+ * A minimal Spring MVC application with the library configured, as described in the README. The
+ * servlet module has the full dependency set of {@code security-feature:0.0.1}, so this is compared
+ * with the core module's application to measure what a core-only consumer saves.
+ *
+ * <p>Run using {@code ./gradlew startupTime}, each module's application is started in a new JVM.
+ * </p>
+ */
+@SpringBootApplication
+@EnableMethodSecurity
+public class StartupApplication {
+
+  /**
+   * Start the application and report the startup time and footprint.
+   *
+   * @param args The label to report the results under.
+   */
+  public static void main(String[] args) {
+    long start = System.nanoTime();
+
+    SpringApplication application = new SpringApplication(StartupApplication.class);
+    application.setDefaultProperties(Map.of(
+        "server.port", "0",
+        "spring.main.banner-mode", "off"
+    ));
+
+    try (ConfigurableApplicationContext context = application.run()) {
+      long contextMillis = (System.nanoTime() - start) / 1_000_000;
+      long jvmMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+      int beans = context.getBeanDefinitionCount();
+      int classes = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+
+      System.gc();
+      long heapKib = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / 1024;
+
+      System.out.printf("%s: context %d ms, JVM %d ms, %d beans, %d classes, %d KiB heap%n",
+          String.join(",", args), contextMillis, jvmMillis, beans, classes, heapKib);
+    }
+  }
+
+  /**
+   * Create a bean of type {@link FeatureChecker}.
+   *
+   * @return The created {@code FeatureChecker}.
+   */
+  @Bean
+  FeatureChecker featureChecker() {
+    return new FeatureChecker();
+  }
+
+  /**
+   * Create a bean of type {@link MethodSecurityExpressionHandler}.
+   *
+   * @return The created {@link FeatureMethodSecurityExpressionHandler}.
+   */
+  @Bean
+  static MethodSecurityExpressionHandler featureMethodSecurityExpressionHandler(
+      FeatureChecker featureChecker) {
+    return new FeatureMethodSecurityExpressionHandler(featureChecker);
+  }
+
+  /**
+   * Create a bean of type {@link FeatureDeniedExceptionResolver}.
+   *
+   * @return The created {@code FeatureDeniedExceptionResolver}.
+   */
+  @Bean
+  FeatureDeniedExceptionResolver featureDeniedExceptionResolver() {
+    return new FeatureDeniedExceptionResolver();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.Ordered;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.servlet.ModelAndView;
+
+class FeatureDeniedExceptionResolverTest {
+
+  private FeatureDeniedExceptionResolver resolver;
+
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() {
+    resolver = new FeatureDeniedExceptionResolver();
+    request = new MockHttpServletRequest();
+    response = new MockHttpServletResponse();
+  }
+
+  @Test
+  void shouldHaveHighestPrecedence() {
+    assertThat("Unexpected order.", resolver.getOrder(), is(Ordered.HIGHEST_PRECEDENCE));
+  }
+
+  @Test
+  void shouldNotResolveOtherExceptions() {
+    ModelAndView mav = resolver.resolveException(request, response, null,
+        new AccessDeniedException("Access Denied"));
+
+    assertThat("Unexpected model and view.", mav, nullValue());
+    assertThat("Unexpected status.", response.getStatus(), is(HttpServletResponse.SC_OK));
+  }
+
+  @Test
+  void shouldNotResolveWhenResponseCommitted() {
+    response.setCommitted(true);
+
+    ModelAndView mav = resolver.resolveException(request, response, null,
+        FeatureDeniedException.forFeature("feature1"));
+
+    assertThat("Unexpected model and view.", mav, nullValue());
+  }
+
+  @Test
+  void shouldWriteForbiddenResponseWithFeaturePath() throws UnsupportedEncodingException {
+    ModelAndView mav = resolver.resolveException(request, response, null,
+        FeatureDeniedException.forFeature("feature1.feature2"));
+
+    assertThat("Unexpected model and view.", mav, notNullValue());
+    assertThat("Unexpected empty model and view.", mav.isEmpty(), is(true));
+    assertThat("Unexpected status.", response.getStatus(), is(HttpServletResponse.SC_FORBIDDEN));
+    assertThat("Unexpected content type.", response.getContentType(), is("application/json"));
+    assertThat("Unexpected body.", response.getContentAsString(),
+        is("{\"feature\":\"feature1.feature2\"}"));
+  }
+
+  @Test
+  void shouldResolveWhenResponseWriteFails() throws IOException {
+    HttpServletResponse failingResponse = mock(HttpServletResponse.class);
+    when(failingResponse.getOutputStream()).thenThrow(new IOException("Broken pipe"));
+
+    ModelAndView mav = resolver.resolveException(request, failingResponse, null,
+        FeatureDeniedException.forFeature("feature1"));
+
+    assertThat("Unexpected model and view.", mav, notNullValue());
+    verify(failingResponse).setStatus(HttpServletResponse.SC_FORBIDDEN);
+  }
+}
@@ -11,3 +11,6 @@ dependencyResolutionManagement {
     }
   }
 }
+
+include("core", "jwt", "servlet", "reactive")
+include("workload")
@@ -0,0 +1,44 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+  application
+  id("io.spring.dependency-management")
+
+  // Code Quality
+  checkstyle
+}
+
+dependencyManagement {
+  imports {
+    mavenBom(SpringBootPlugin.BOM_COORDINATES)
+  }
+}
+
+application {
+  mainClass = "uk.nhs.tis.trainee.security.feature.workload.WorkloadGenerator"
+}
+
+checkstyle {
+  config =
+    resources.text.fromArchiveEntry(configurations.checkstyle.get().first(), "google_checks.xml")
+}
+
+java {
+  toolchain {
+    languageVersion.set(JavaLanguageVersion.of(17))
+    vendor.set(JvmVendorSpec.ADOPTIUM)
+  }
+}
+
+testing {
+  suites {
+    val test by getting(JvmTestSuite::class) {
+      useJUnitJupiter()
+      dependencies {
+        // Verifies the generated tokens are readable by a JOSE library.
+        implementation("com.nimbusds:nimbus-jose-jwt")
+        implementation("org.hamcrest:hamcrest")
+      }
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature.workload;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generator of synthetic nested feature trees, matching the structure of the JWT "features" claim.
+ *
+ * <p>Each feature has an "enabled" flag followed by its child features, which are named
+ * "feature0", "feature1" etc. so that the same names are repeated across tokens.</p>
+ */
+class FeatureTreeGenerator {
+
+  private static final String ENABLED = "enabled";
+
+  private final int width;
+  private final int depth;
+  private final double enabledRatio;
+
+  /**
+   * Create a generator for feature trees of the given shape.
+   *
+   * @param spec The workload specification defining the tree shape.
+   */
+  FeatureTreeGenerator(WorkloadSpec spec) {
+    this.width = spec.width();
+    this.depth = spec.depth();
+    this.enabledRatio = spec.enabledRatio();
+  }
+
+  /**
+   * Generate a feature tree, using insertion ordered maps so that serialization is reproducible.
+   *
+   * @param random The source of randomness, consumed in a fixed order.
+   * @return The generated feature tree.
+   */
+  Map<String, Object> generate(Random random) {
+    return generateChildren(random, depth);
+  }
+
+  /**
+   * Generate the child features of a feature.
+   *
+   * @param random    The source of randomness.
+   * @param remaining The number of levels remaining below the current feature.
+   * @return The generated child features.
+   */
+  private Map<String, Object> generateChildren(Random random, int remaining) {
+    Map<String, Object> children = new LinkedHashMap<>();
+
+    for (int i = 0; i < width; i++) {
+      Map<String, Object> feature = new LinkedHashMap<>();
+      feature.put(ENABLED, random.nextDouble() < enabledRatio);
+
+      if (remaining > 1) {
+        feature.putAll(generateChildren(random, remaining - 1));
+      }
+
+      children.put("feature" + i, feature);
+    }
+
+    return children;
+  }
+}
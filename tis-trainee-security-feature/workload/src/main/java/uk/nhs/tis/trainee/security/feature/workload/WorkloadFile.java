@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature.workload;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Collection;
+
+/**
+ * A memory-mapped workload file of serialized JWTs.
+ *
+ * <p>The file is big-endian, so it is portable between machines, and has the layout:</p>
+ * <pre>
+ * int    magic        0x54495357 ("TISW")
+ * int    version      1
+ * long   seed         the workload seed, see {@link WorkloadGenerator#signingKey(long)}
+ * int    width        the number of child features of each feature
+ * int    depth        the number of levels of nested features
+ * double enabledRatio the probability that each feature is enabled
+ * int    count        the number of tokens
+ * count * {
+ *   int    length     the number of bytes in the token
+ *   byte[] token      the US-ASCII serialized JWT
+ * }
+ * </pre>
+ *
+ * <p>The tokens are exposed as an immutable random access list, each token is decoded from the
+ * mapped file when accessed so the list may be shared between threads.</p>
+ */
+public final class WorkloadFile extends AbstractList<String> {
+
+  static final int MAGIC = 0x54495357;
+  static final int VERSION = 1;
+
+  private final WorkloadSpec spec;
+  private final ByteBuffer buffer;
+  private final int[] offsets;
+
+  /**
+   * Create a workload file view over the given buffer.
+   *
+   * @param spec    The specification the tokens were generated from.
+   * @param buffer  The buffer containing the tokens.
+   * @param offsets The offset of each token's length prefix within the buffer.
+   */
+  private WorkloadFile(WorkloadSpec spec, ByteBuffer buffer, int[] offsets) {
+    this.spec = spec;
+    this.buffer = buffer;
+    this.offsets = offsets;
+  }
+
+  /**
+   * Write a workload file, replacing any existing file.
+   *
+   * @param path   The path of the file to write.
+   * @param spec   The specification used to generate the tokens.
+   * @param tokens The serialized JWTs.
+   * @throws IOException If the file could not be written.
+   */
+  public static void write(Path path, WorkloadSpec spec, Collection<String> tokens)
+      throws IOException {
+    if (tokens.size() != spec.tokenCount()) {
+      throw new IllegalArgumentException("The token count must match the workload spec.");
+    }
+
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(path)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeLong(spec.seed());
+      out.writeInt(spec.width());
+      out.writeInt(spec.depth());
+      out.writeDouble(spec.enabledRatio());
+      out.writeInt(tokens.size());
+
+      for (String token : tokens) {
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      }
+    }
+  }
+
+  /**
+   * Memory-map a workload file for reading.
+   *
+   * @param path The path of the file to read.
+   * @return The mapped workload file.
+   * @throws IOException If the file could not be read or is not a valid workload file.
+   */
+  public static WorkloadFile open(Path path) throws IOException {
+    MappedByteBuffer buffer;
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+
+      // Token offsets are int indexes into a single mapped buffer.
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("Workload file exceeds 2 GiB: " + path);
+      }
+
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    try {
+      if (buffer.getInt() != MAGIC) {
+        throw new IOException("Not a workload file: " + path);
+      }
+
+      int version = buffer.getInt();
+      if (version != VERSION) {
+        throw new IOException("Unsupported workload file version: " + version);
+      }
+
+      long seed = buffer.getLong();
+      int width = buffer.getInt();
+      int depth = buffer.getInt();
+      double enabledRatio = buffer.getDouble();
+      int count = buffer.getInt();
+
+      // Each token needs at least its length prefix.
+      if (count < 0 || count > buffer.remaining() / Integer.BYTES) {
+        throw new IOException("Invalid workload token count: " + count);
+      }
+
+      WorkloadSpec spec;
+      try {
+        spec = new WorkloadSpec(seed, count, width, depth, enabledRatio);
+      } catch (IllegalArgumentException e) {
+        throw new IOException("Invalid workload specification: " + path, e);
+      }
+
+      int[] offsets = new int[count];
+
+      for (int i = 0; i < offsets.length; i++) {
+        offsets[i] = buffer.position();
+        int length = buffer.getInt();
+
+        if (length < 0 || length > buffer.remaining()) {
+          throw new IOException("Truncated workload file: " + path);
+        }
+
+        buffer.position(buffer.position() + length);
+      }
+
+      return new WorkloadFile(spec, buffer.asReadOnlyBuffer(), offsets);
+    } catch (BufferUnderflowException e) {
+      throw new IOException("Truncated workload file: " + path, e);
+    }
+  }
+
+  /**
+   * Get the specification used to generate the tokens.
+   *
+   * @return The workload specification.
+   */
+  public WorkloadSpec spec() {
+    return spec;
+  }
+
+  @Override
+  public String get(int index) {
+    int offset = offsets[index];
+    int length = buffer.getInt(offset);
+    byte[] bytes = new byte[length];
+    buffer.get(offset + Integer.BYTES, bytes);
+    return new String(bytes, StandardCharsets.US_ASCII);
+  }
+
+  @Override
+  public int size() {
+    return offsets.length;
+  }
+}
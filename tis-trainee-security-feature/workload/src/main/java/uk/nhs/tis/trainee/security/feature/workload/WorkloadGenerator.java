@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature.workload;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Generator of reproducible corpora of signed JWTs with synthetic "features" claims.
+ *
+ * <p>Tokens are signed with HS256 using a key derived from the seed, and all claims including the
+ * issue and expiry times are derived from the seed. The header and claims are serialized here,
+ * rather than by a JOSE library, so the same specification produces byte-identical tokens on any
+ * machine and with any library version.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * ./gradlew :workload:run --args="output=build/workload.fwl seed=42 tokens=10000 width=4 depth=3"
+ * </pre>
+ */
+public class WorkloadGenerator {
+
+  static final String ISSUER = "tis-trainee-security-feature-workload";
+  static final Instant ISSUED_AT = Instant.parse("2026-01-01T00:00:00Z");
+  static final Duration VALIDITY = Duration.ofDays(36500);
+
+  private static final String HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+  private static final String FEATURES_CLAIM = "features";
+  private static final String MAC_ALGORITHM = "HmacSHA256";
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  /**
+   * Generate a corpus of signed JWTs.
+   *
+   * @param spec The specification of the workload to generate.
+   * @return The serialized JWTs.
+   */
+  public List<String> generate(WorkloadSpec spec) {
+    Random random = new Random(spec.seed());
+    FeatureTreeGenerator treeGenerator = new FeatureTreeGenerator(spec);
+    String encodedHeader = encode(HEADER);
+
+    try {
+      Mac mac = Mac.getInstance(MAC_ALGORITHM);
+      mac.init(new SecretKeySpec(signingKey(spec.seed()), MAC_ALGORITHM));
+      List<String> tokens = new ArrayList<>(spec.tokenCount());
+
+      for (int i = 0; i < spec.tokenCount(); i++) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", ISSUER);
+        claims.put("sub", new UUID(random.nextLong(), random.nextLong()).toString());
+        claims.put("iat", ISSUED_AT.getEpochSecond());
+        claims.put("exp", ISSUED_AT.plus(VALIDITY).getEpochSecond());
+        claims.put(FEATURES_CLAIM, treeGenerator.generate(random));
+
+        String signingInput = encodedHeader + "." + encode(toJson(claims));
+        byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        tokens.add(signingInput + "." + ENCODER.encodeToString(signature));
+      }
+
+      return tokens;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to sign the generated tokens.", e);
+    }
+  }
+
+  /**
+   * Get the HS256 signing key for the given seed, allowing consumers of a workload to verify the
+   * tokens.
+   *
+   * @param seed The seed of the workload.
+   * @return The 256-bit signing key.
+   */
+  public static byte[] signingKey(long seed) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(ISSUER.getBytes(StandardCharsets.UTF_8));
+      digest.update(ByteBuffer.allocate(Long.BYTES).putLong(seed).array());
+      return digest.digest();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available.", e);
+    }
+  }
+
+  /**
+   * Base64url encode a JSON string, without padding.
+   *
+   * @param json The JSON to encode.
+   * @return The encoded JSON.
+   */
+  private static String encode(String json) {
+    return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Serialize a claim value as compact JSON, preserving map order.
+   *
+   * @param value The string, number, boolean or map to serialize.
+   * @return The serialized JSON.
+   */
+  static String toJson(Object value) {
+    StringBuilder json = new StringBuilder();
+    appendJson(json, value);
+    return json.toString();
+  }
+
+  /**
+   * Append a claim value as compact JSON.
+   *
+   * @param json  The JSON being built.
+   * @param value The string, number, boolean or map to append.
+   */
+  private static void appendJson(StringBuilder json, Object value) {
+    if (value instanceof Map<?, ?> map) {
+      json.append('{');
+      String separator = "";
+
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        json.append(separator);
+        appendJson(json, String.valueOf(entry.getKey()));
+        json.append(':');
+        appendJson(json, entry.getValue());
+        separator = ",";
+      }
+
+      json.append('}');
+    } else if (value instanceof String string) {
+      json.append('"');
+
+      for (char c : string.toCharArray()) {
+        if (c == '"' || c == '\\') {
+          json.append('\\').append(c);
+        } else if (c < 0x20) {
+          json.append(String.format("\\u%04x", (int) c));
+        } else {
+          json.append(c);
+        }
+      }
+
+      json.append('"');
+    } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
+      json.append(value);
+    } else {
+      throw new IllegalArgumentException("Unsupported claim value: " + value);
+    }
+  }
+
+  /**
+   * Generate a workload and write it to a file.
+   *
+   * @param args The workload arguments as key=value pairs, "output" is required, "seed",
+   *             "tokens", "width", "depth" and "enabledRatio" are optional.
+   * @throws IOException If the workload file could not be written.
+   */
+  public static void main(String[] args) throws IOException {
+    Map<String, String> arguments = new HashMap<>();
+
+    for (String arg : args) {
+      String[] keyValue = arg.split("=", 2);
+
+      if (keyValue.length != 2) {
+        throw new IllegalArgumentException("Arguments must be key=value pairs: " + arg);
+      }
+
+      arguments.put(keyValue[0], keyValue[1]);
+    }
+
+    String output = arguments.get("output");
+    if (output == null) {
+      throw new IllegalArgumentException("An output file must be provided.");
+    }
+
+    WorkloadSpec spec = new WorkloadSpec(
+        Long.parseLong(arguments.getOrDefault("seed", "0")),
+        Integer.parseInt(arguments.getOrDefault("tokens", "1000")),
+        Integer.parseInt(arguments.getOrDefault("width", "4")),
+        Integer.parseInt(arguments.getOrDefault("depth", "3")),
+        Double.parseDouble(arguments.getOrDefault("enabledRatio", "0.8"))
+    );
+
+    List<String> tokens = new WorkloadGenerator().generate(spec);
+    WorkloadFile.write(Path.of(output), spec, tokens);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature.workload;
+
+/**
+ * The specification of a synthetic feature claim workload.
+ *
+ * @param seed         The seed used for all random choices, the same seed always produces the same
+ *                     workload.
+ * @param tokenCount   The number of tokens to generate.
+ * @param width        The number of child features of each feature.
+ * @param depth        The number of levels of nested features.
+ * @param enabledRatio The probability, between 0 and 1, that each feature is enabled.
+ */
+public record WorkloadSpec(long seed, int tokenCount, int width, int depth, double enabledRatio) {
+
+  /**
+   * The maximum number of features in each token's claim.
+   */
+  public static final long MAX_FEATURES_PER_TOKEN = 100_000;
+
+  /**
+   * The maximum number of features across all tokens, as the whole workload is held in memory.
+   */
+  public static final long MAX_FEATURES = 10_000_000;
+
+  /**
+   * Create a workload specification, validating the supplied values.
+   */
+  public WorkloadSpec {
+    if (tokenCount < 0) {
+      throw new IllegalArgumentException("The token count must not be negative.");
+    }
+
+    if (width < 1) {
+      throw new IllegalArgumentException("The width must be at least one.");
+    }
+
+    if (depth < 1) {
+      throw new IllegalArgumentException("The depth must be at least one.");
+    }
+
+    if (enabledRatio < 0 || enabledRatio > 1) {
+      throw new IllegalArgumentException("The enabled ratio must be between 0 and 1.");
+    }
+
+    long featuresPerToken = featuresPerToken(width, depth);
+    if (featuresPerToken > MAX_FEATURES_PER_TOKEN) {
+      throw new IllegalArgumentException(
+          "The width and depth must give at most " + MAX_FEATURES_PER_TOKEN
+              + " features per token.");
+    }
+
+    if (featuresPerToken * tokenCount > MAX_FEATURES) {
+      throw new IllegalArgumentException(
+          "The workload must have at most " + MAX_FEATURES + " features in total.");
+    }
+  }
+
+  /**
+   * Get the number of features in each token's claim.
+   *
+   * @return The number of features, including nested features, per token.
+   */
+  public long featuresPerToken() {
+    return featuresPerToken(width, depth);
+  }
+
+  /**
+   * Count the features in a tree of the given shape, stopping once the maximum is exceeded.
+   *
+   * @param width The number of child features of each feature.
+   * @param depth The number of levels of nested features.
+   * @return The number of features, or a value above the maximum if exceeded.
+   */
+  private static long featuresPerToken(int width, int depth) {
+    long total = 0;
+    long level = 1;
+
+    for (int i = 0; i < depth && total <= MAX_FEATURES_PER_TOKEN; i++) {
+      level *= width;
+      total += level;
+    }
+
+    return total;
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature.workload;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class WorkloadFileTest {
+
+  private static final long SEED = 42;
+  private static final int HEADER_BYTES = 5 * Integer.BYTES + Long.BYTES + Double.BYTES;
+  private static final WorkloadSpec SPEC = new WorkloadSpec(SEED, 3, 2, 3, 0.75);
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void shouldReadWrittenTokens() throws IOException {
+    List<String> tokens = List.of("token1", "token22", "token333");
+    Path path = tempDir.resolve("workload.fwl");
+
+    WorkloadFile.write(path, SPEC, tokens);
+    WorkloadFile file = WorkloadFile.open(path);
+
+    assertThat("Unexpected spec.", file.spec(), is(SPEC));
+    assertThat("Unexpected tokens.", file, is(tokens));
+  }
+
+  @Test
+  void shouldReadEmptyWorkload() throws IOException {
+    Path path = tempDir.resolve("workload.fwl");
+
+    WorkloadFile.write(path, new WorkloadSpec(SEED, 0, 1, 1, 0.5), List.of());
+    WorkloadFile file = WorkloadFile.open(path);
+
+    assertThat("Unexpected token count.", file.size(), is(0));
+  }
+
+  @Test
+  void shouldReadGeneratedTokens() throws IOException {
+    WorkloadSpec spec = new WorkloadSpec(SEED, 20, 3, 3, 0.8);
+    List<String> tokens = new WorkloadGenerator().generate(spec);
+    Path path = tempDir.resolve("workload.fwl");
+
+    WorkloadFile.write(path, spec, tokens);
+    WorkloadFile file = WorkloadFile.open(path);
+
+    assertThat("Unexpected tokens.", file, is(tokens));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenNotWorkloadFile() throws IOException {
+    Path path = tempDir.resolve("workload.fwl");
+    Files.write(path, ByteBuffer.allocate(20).putInt(0xCAFEBABE).array());
+
+    assertThrows(IOException.class, () -> WorkloadFile.open(path));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenUnsupportedVersion() throws IOException {
+    Path path = tempDir.resolve("workload.fwl");
+    Files.write(path, ByteBuffer.allocate(20)
+        .putInt(WorkloadFile.MAGIC)
+        .putInt(WorkloadFile.VERSION + 1)
+        .array());
+
+    assertThrows(IOException.class, () -> WorkloadFile.open(path));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenTruncated() throws IOException {
+    Path path = tempDir.resolve("workload.fwl");
+    WorkloadFile.write(path, SPEC, List.of("token1", "token2", "token3"));
+
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+
+    assertThrows(IOException.class, () -> WorkloadFile.open(path));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenTokenCountNotSpecCount() {
+    Path path = tempDir.resolve("workload.fwl");
+    List<String> tokens = List.of("token1");
+
+    assertThrows(IllegalArgumentException.class, () -> WorkloadFile.write(path, SPEC, tokens));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, Integer.MAX_VALUE})
+  void shouldThrowExceptionWhenInvalidTokenCount(int count) throws IOException {
+    Path path = tempDir.resolve("workload.fwl");
+    Files.write(path, createHeader(SEED, 2, 3, 0.5, count).array());
+
+    assertThrows(IOException.class, () -> WorkloadFile.open(path));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenInvalidSpec() throws IOException {
+    Path path = tempDir.resolve("workload.fwl");
+    Files.write(path, createHeader(SEED, 0, 3, 0.5, 0).array());
+
+    assertThrows(IOException.class, () -> WorkloadFile.open(path));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenNegativeTokenLength() throws IOException {
+    Path path = tempDir.resolve("workload.fwl");
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + Integer.BYTES);
+    buffer.put(createHeader(SEED, 2, 3, 0.5, 1).array()).putInt(-1);
+    Files.write(path, buffer.array());
+
+    assertThrows(IOException.class, () -> WorkloadFile.open(path));
+  }
+
+  /**
+   * Create a workload file header.
+   *
+   * @param seed         The workload seed.
+   * @param width        The feature width.
+   * @param depth        The feature depth.
+   * @param enabledRatio The enabled ratio.
+   * @param count        The token count.
+   * @return The header bytes.
+   */
+  private ByteBuffer createHeader(long seed, int width, int depth, double enabledRatio,
+      int count) {
+    return ByteBuffer.allocate(HEADER_BYTES)
+        .putInt(WorkloadFile.MAGIC)
+        .putInt(WorkloadFile.VERSION)
+        .putLong(seed)
+        .putInt(width)
+        .putInt(depth)
+        .putDouble(enabledRatio)
+        .putInt(count);
+  }
+}
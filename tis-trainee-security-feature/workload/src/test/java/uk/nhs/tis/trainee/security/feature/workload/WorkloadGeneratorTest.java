@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature.workload;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class WorkloadGeneratorTest {
+
+  private static final long SEED = 42;
+  private static final String GOLDEN_DIGEST =
+      "3978796cfbe67151e44157c19c793e30c326bcc06e53e39555e62e7c30cc418e";
+
+  private WorkloadGenerator generator;
+
+  @BeforeEach
+  void setUp() {
+    generator = new WorkloadGenerator();
+  }
+
+  @Test
+  void shouldGenerateRequestedNumberOfTokens() {
+    List<String> tokens = generator.generate(new WorkloadSpec(SEED, 5, 2, 2, 0.5));
+
+    assertThat("Unexpected token count.", tokens, hasSize(5));
+  }
+
+  @Test
+  void shouldGenerateSameTokensWithSameSeed() {
+    List<String> tokens1 = generator.generate(new WorkloadSpec(SEED, 10, 3, 2, 0.5));
+    List<String> tokens2 = generator.generate(new WorkloadSpec(SEED, 10, 3, 2, 0.5));
+
+    assertThat("Unexpected tokens.", tokens2, is(tokens1));
+  }
+
+  @Test
+  void shouldGenerateGoldenTokens() throws NoSuchAlgorithmException {
+    List<String> tokens = generator.generate(new WorkloadSpec(SEED, 10, 3, 2, 0.5));
+
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    for (String token : tokens) {
+      digest.update(token.getBytes(StandardCharsets.US_ASCII));
+      digest.update((byte) '\n');
+    }
+
+    // Any change to the generated bytes breaks reproducibility with previously shared workloads.
+    assertThat("Unexpected token digest.", HexFormat.of().formatHex(digest.digest()),
+        is(GOLDEN_DIGEST));
+  }
+
+  @Test
+  void shouldGenerateDifferentTokensWithDifferentSeed() {
+    List<String> tokens1 = generator.generate(new WorkloadSpec(SEED, 10, 3, 2, 0.5));
+    List<String> tokens2 = generator.generate(new WorkloadSpec(SEED + 1, 10, 3, 2, 0.5));
+
+    assertThat("Unexpected tokens.", tokens2, not(tokens1));
+  }
+
+  @Test
+  void shouldSignTokensWithSeedKey() throws ParseException, JOSEException {
+    List<String> tokens = generator.generate(new WorkloadSpec(SEED, 3, 2, 2, 0.5));
+
+    MACVerifier verifier = new MACVerifier(WorkloadGenerator.signingKey(SEED));
+    MACVerifier otherVerifier = new MACVerifier(WorkloadGenerator.signingKey(SEED + 1));
+
+    for (String token : tokens) {
+      SignedJWT jwt = SignedJWT.parse(token);
+      assertThat("Unexpected verification result.", jwt.verify(verifier), is(true));
+      assertThat("Unexpected verification result.", jwt.verify(otherVerifier), is(false));
+    }
+  }
+
+  @Test
+  void shouldGenerateFeaturesWithRequestedShape() throws ParseException {
+    List<String> tokens = generator.generate(new WorkloadSpec(SEED, 1, 3, 2, 0.5));
+
+    JWTClaimsSet claims = SignedJWT.parse(tokens.get(0)).getJWTClaimsSet();
+    Map<String, Object> features = claims.getJSONObjectClaim("features");
+    assertThat("Unexpected feature count.", features, aMapWithSize(3));
+
+    for (Object value : features.values()) {
+      Map<String, Object> feature = (Map<String, Object>) value;
+      assertThat("Unexpected feature size.", feature, aMapWithSize(4));
+      assertThat("Unexpected enabled flag.", feature, hasKey("enabled"));
+
+      Map<String, Object> child = (Map<String, Object>) feature.get("feature0");
+      assertThat("Unexpected child feature.", child, is(Map.of("enabled", child.get("enabled"))));
+    }
+  }
+
+  @Test
+  void shouldSerializeJsonInInsertionOrder() {
+    Map<String, Object> claims = new LinkedHashMap<>();
+    claims.put("b", "quote\" backslash\\ tab\t");
+    claims.put("a", Map.of("enabled", true));
+    claims.put("n", 1L);
+
+    String json = WorkloadGenerator.toJson(claims);
+
+    assertThat("Unexpected JSON.", json,
+        is("{\"b\":\"quote\\\" backslash\\\\ tab\\u0009\",\"a\":{\"enabled\":true},\"n\":1}"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldGenerateFeaturesWithEnabledRatio(boolean enabled) throws ParseException {
+    List<String> tokens = generator.generate(new WorkloadSpec(SEED, 1, 2, 1, enabled ? 1 : 0));
+
+    JWTClaimsSet claims = SignedJWT.parse(tokens.get(0)).getJWTClaimsSet();
+    Map<String, Object> features = claims.getJSONObjectClaim("features");
+    assertThat("Unexpected features.", features, is(Map.of(
+        "feature0", Map.of("enabled", enabled),
+        "feature1", Map.of("enabled", enabled)
+    )));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.tis.trainee.security.feature.workload;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class WorkloadSpecTest {
+
+  @Test
+  void shouldAllowValidSpec() {
+    assertDoesNotThrow(() -> new WorkloadSpec(0, 0, 1, 1, 0));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenTokenCountNegative() {
+    assertThrows(IllegalArgumentException.class, () -> new WorkloadSpec(0, -1, 1, 1, 0));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenWidthLessThanOne() {
+    assertThrows(IllegalArgumentException.class, () -> new WorkloadSpec(0, 1, 0, 1, 0));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenDepthLessThanOne() {
+    assertThrows(IllegalArgumentException.class, () -> new WorkloadSpec(0, 1, 1, 0, 0));
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-0.1, 1.1})
+  void shouldThrowExceptionWhenEnabledRatioOutOfRange(double enabledRatio) {
+    assertThrows(IllegalArgumentException.class, () -> new WorkloadSpec(0, 1, 1, 1, enabledRatio));
+  }
+
+  @Test
+  void shouldCountFeaturesAtEveryLevel() {
+    WorkloadSpec spec = new WorkloadSpec(0, 1, 3, 2, 0);
+
+    assertThat("Unexpected feature count.", spec.featuresPerToken(), is(12L));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"10, 8", "2, 20", "100000, 100000"})
+  void shouldThrowExceptionWhenTooManyFeaturesPerToken(int width, int depth) {
+    assertThrows(IllegalArgumentException.class, () -> new WorkloadSpec(0, 1, width, depth, 0));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenTooManyFeaturesInTotal() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new WorkloadSpec(0, 1_000_000, 10, 2, 0));
+  }
+}